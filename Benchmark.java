@@ -0,0 +1,252 @@
+//Benchmark
+//Description: This program times the hot paths of the game core on a fixed set of positions and measures how much memory each operation allocates.
+//The game is built by compiling its classes with javac and has no Maven or Gradle build to add JMH to, so this program follows the same method by hand: a warm-up, five measurements with a 95% interval, and the bytes allocated per operation by every thread, as -prof gc reports them.
+//Like a JMH set-up method run before each invocation, the computers forget what they searched before each timed move, so a level is never timed answering a position it has already answered.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+import java.lang.management.*;
+import java.util.*;
+
+public class Benchmark
+{
+	//Positions from the opening, middle and end of a round, as columns numbered from 1
+	public static final String[] CORPUS = {"", "4", "44", "4453", "443355", "46536", "7615616", "44444432", "455212475", "21424421677", "123456712345", "2421534156167", "32164625", "2475653363572416", "444443222335566", "63633213711257545675", "265573273422432511762415", "5274732727562476722663561165"};
+
+	private static Position[] positions = new Position[CORPUS.length];
+	private static volatile long sink; //Results are written here so the JIT cannot remove the work
+
+	//An operation to be timed, run on one position of the corpus
+	private interface Operation
+	{
+		public long run(Position position);
+	}
+
+	//Usage: java Benchmark [seconds per measurement] [names to run, all if none are given]
+	public static void main(String[] args)
+	{
+		double seconds = args.length > 0 ? Double.parseDouble(args[0]) : 1;
+		List<String> names = Arrays.asList(args).subList(Math.min(args.length, 1), args.length);
+
+		for (int i = 0; i < CORPUS.length; i++)
+		{
+			positions[i] = Position.fromMoves(CORPUS[i]);
+		}
+
+		System.out.printf("%-24s %14s %12s %12s%n", "Benchmark", "ns/op", "error", "B/op");
+
+		run("isWin", names, seconds, position -> Position.isWin(position.getBoard(1)) || Position.isWin(position.getBoard(2)) ? 1 : 0);
+		run("findEndPoints", names, seconds, new Operation()
+		{
+			private int[][] endPoints = new int[2][2];
+
+			public long run(Position position)
+			{
+				return position.findEndPoints(1, this.endPoints) ? this.endPoints[1][1] : 0;
+			}
+		});
+		run("getRow", names, seconds, position ->
+		{
+			long total = 0;
+
+			for (int column = 0; column < Position.WIDTH; column++)
+			{
+				total += position.getRow(column);
+			}
+
+			return total;
+		});
+		run("dropUndo", names, seconds, position ->
+		{
+			long total = 0;
+
+			for (int column = 0; column < Position.WIDTH; column++)
+			{
+				if (position.canPlay(column))
+				{
+					total += position.drop(column, 1);
+					position.undo(column);
+				}
+			}
+
+			return total;
+		});
+		run("blockConnect", names, seconds, position ->
+		{
+			long total = 0;
+
+			//Check every column for a win of either side, which is how the computer finds columns to connect or block
+			for (int column = 0; column < Position.WIDTH; column++)
+			{
+				if (position.canPlay(column) && (position.isWinningMove(column, 2) || position.isWinningMove(column, 1)))
+				{
+					total += column;
+				}
+			}
+
+			return total;
+		});
+
+		//Time scoring every position one checker away, as a search does at its last depth
+		//Each corpus position has its own evaluator so the threat evaluator only rescores the lines through the checker that changed, as it would during a search
+		for (int i = 0; i < 2; i++)
+		{
+			Evaluator[] evaluators = new Evaluator[CORPUS.length];
+
+			for (int j = 0; j < evaluators.length; j++)
+			{
+				evaluators[j] = i == 0 ? new TableEvaluator() : new ThreatEvaluator();
+			}
+
+			run("evaluate " + (i == 0 ? "table" : "threat"), names, seconds, position ->
+			{
+				Evaluator evaluator = evaluators[indexOf(position)];
+				long total = 0;
+
+				for (int column = 0; column < Position.WIDTH; column++)
+				{
+					if (position.canPlay(column))
+					{
+						position.drop(column, 1);
+						total += evaluator.evaluate(position, 1);
+						position.undo(column);
+					}
+				}
+
+				return total;
+			});
+		}
+
+		//Time the full choice of a column at each level, the opening book, the cache of chosen columns and the search tables would otherwise answer the corpus positions from the first pass over it
+		//The tables are emptied before each move without being timed, so every move is searched from the start
+		for (int level = 1; level <= 12; level++)
+		{
+			Computer computer = new Computer(level, new SplittableRandom(level), false);
+			computer.setThinkingTime(100);
+			computer.setBook(null);
+			run("chooseColumn level " + level, names, seconds, position -> computer.chooseColumn(position, position.getMoves() % 2 + 1), computer::clear);
+			computer.close(); //Stop the computer's threads, including pondering, so they do not slow the levels after it
+		}
+	}
+
+	//Find the index of a position in the corpus
+	private static int indexOf(Position position)
+	{
+		int index = 0;
+
+		while (positions[index] != position)
+		{
+			index++;
+		}
+
+		return index;
+	}
+
+	//Warm up and then measure an operation over the corpus, printing the time and memory allocated per operation
+	private static void run(String name, List<String> names, double seconds, Operation operation)
+	{
+		run(name, names, seconds, operation, null);
+	}
+
+	//Measure an operation with a set-up that runs untimed before each operation, null if there is none
+	private static void run(String name, List<String> names, double seconds, Operation operation, Runnable setUp)
+	{
+		//Determine if this benchmark has been selected
+		if (!names.isEmpty() && !names.contains(name.split(" ")[0]))
+		{
+			return;
+		}
+
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		measure(operation, setUp, seconds); //Warm up so the JIT has compiled the operation and the computers have started their threads
+
+		double[] times = new double[5]; //Nanoseconds per operation of each measurement
+		Map<Long, Long> before = allocatedBytes(threads);
+		long operations = 0;
+
+		for (int i = 0; i < times.length; i++)
+		{
+			long[] result = measure(operation, setUp, seconds);
+			times[i] = (double) result[0] / result[1];
+			operations += result[1];
+		}
+
+		long allocated = 0;
+
+		//Add up what every thread allocated, the search helpers and ponder thread allocate for the computer as well as the calling thread
+		for (Map.Entry<Long, Long> entry : allocatedBytes(threads).entrySet())
+		{
+			allocated += entry.getValue() - before.getOrDefault(entry.getKey(), 0L);
+		}
+
+		//Find the mean time and its spread
+		double mean = 0;
+		double variance = 0;
+
+		for (int i = 0; i < times.length; i++)
+		{
+			mean += times[i] / times.length;
+		}
+
+		for (int i = 0; i < times.length; i++)
+		{
+			variance += (times[i] - mean) * (times[i] - mean) / (times.length - 1);
+		}
+
+		System.out.printf("%-24s %14.1f %12.1f %12.1f%n", name, mean, 2.776 * Math.sqrt(variance / times.length), (double) allocated / operations); //2.776 gives a 95% interval over 5 measurements
+	}
+
+	//Get the bytes allocated so far by each live thread, by its id, a thread that has ended is no longer counted
+	private static Map<Long, Long> allocatedBytes(com.sun.management.ThreadMXBean threads)
+	{
+		long[] ids = threads.getAllThreadIds();
+		long[] bytes = threads.getThreadAllocatedBytes(ids);
+		Map<Long, Long> allocated = new HashMap<Long, Long>();
+
+		for (int i = 0; i < ids.length; i++)
+		{
+			//Determine if the thread was still running when it was measured
+			if (bytes[i] >= 0)
+			{
+				allocated.put(ids[i], bytes[i]);
+			}
+		}
+
+		return allocated;
+	}
+
+	//Run an operation over the corpus again and again for a number of seconds, return the nanoseconds taken and the number of operations
+	//An operation with a set-up is timed one at a time so the set-up is left out, otherwise a whole pass over the corpus is timed at once
+	private static long[] measure(Operation operation, Runnable setUp, double seconds)
+	{
+		long start = System.nanoTime();
+		long end = start + (long) (seconds * 1e9);
+		long operations = 0;
+		long total = 0;
+		long timed = 0; //Nanoseconds spent in the operations, when each is timed on its own
+		long now;
+
+		do
+		{
+			for (int i = 0; i < positions.length; i++)
+			{
+				if (setUp == null)
+				{
+					total += operation.run(positions[i]);
+					continue;
+				}
+
+				setUp.run();
+				long before = System.nanoTime();
+				total += operation.run(positions[i]);
+				timed += System.nanoTime() - before;
+			}
+
+			operations += positions.length;
+			now = System.nanoTime();
+		}
+		while (now < end);
+
+		sink = total;
+		return new long[] {setUp == null ? now - start : timed, operations};
+	}
+} //End of class
\ No newline at end of file
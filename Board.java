@@ -1,81 +1,271 @@
 //Board
 //Description: This class draws a game board for the GUI.
+//The empty board is drawn once into an image, which is only drawn again when the board changes size, and each change to the game only repaints the holes that changed.
+//New checkers fall into their holes, every falling checker is moved by one shared timer which repaints only the strip of its column each checker covered since the last frame.
+//The timer aims for 60 frames a second but cannot promise it, on one processor shared with two busy threads it gets about 50. Late frames are merged rather than queued and each frame moves the checkers by the time that has passed, so a slow machine drops frames without slowing the fall.
 //Created By: Wentan Su
-//Last Modified: Jan 22, 2023
+//Last Modified: Oct 18, 2026
 import javax.swing.*;
 import java.awt.*;
+import java.awt.geom.*;
+import java.awt.image.*;
 
 public class Board extends JComponent
 {
+	private static final int FRAMES_PER_SECOND = 60;
+	private static final double GRAVITY = 400.0; //Acceleration of a falling checker in board units per second squared, a drop through the whole board takes about 0.3 seconds
+	private static final double DROP_START = -2.0; //Top of a checker when it starts falling, just above the board
+	
 	private Model model;
+	private ModelState state; //Snapshot the board shows, the repainted holes are found by comparing it with the next one
+	private BufferedImage background; //Empty board, drawn at the resolution of the screen
+	private int backgroundWidth; //Size the background was drawn for
+	private int backgroundHeight;
+	private double backgroundScale; //Screen pixels for each pixel of the component when the background was drawn
+	private BasicStroke stroke; //Stroke of the line through the connected checkers, which depends on the width
+	private Timer timer = new Timer(1000 / FRAMES_PER_SECOND, e -> this.animate()); //Moves every falling checker every 16 milliseconds, running only while one is falling
+	private int columns = Position.WIDTH; //Size of the board being shown
+	private int rows = Position.HEIGHT;
+	private long[][] dropStarts = new long[this.rows][this.columns]; //Time each checker started falling in nanoseconds, 0 if it is not falling
+	private double[][] dropTops = new double[this.rows][this.columns]; //Top of each falling checker in board units, where it was last drawn
+	private int drops; //Number of checkers falling
 	
 	public Board(Model model)
 	{
 		super();
 		this.setPreferredSize(new Dimension(500, 500));
 		this.model = model;
+		this.timer.setCoalesce(true); //Merge frames that are late instead of painting them one after another
+	}
+	
+	//Show a new snapshot, repainting only the holes whose checkers changed and the line through the connected checkers if it changed
+	public void refresh(ModelState state)
+	{
+		ModelState old = this.state;
+		this.state = state;
+		
+		//Determine if nothing has been drawn yet or the board has changed size, in which case the whole board is painted
+		if (old == null || !old.getRules().equals(state.getRules()))
+		{
+			this.resize(state.getRules());
+			this.repaint();
+			return;
+		}
+		
+		for (int i = 0; i < this.rows; i++)
+		{
+			for (int j = 0; j < this.columns; j++)
+			{
+				if (old.getChecker(i, j) == state.getChecker(i, j))
+				{
+					continue;
+				}
+				
+				//Determine if a checker has been placed, in which case it falls into its hole, otherwise a taken back checker stops falling
+				if (old.getChecker(i, j) == 0)
+				{
+					this.startDrop(i, j);
+				}
+				else
+				{
+					this.stopDrop(i, j);
+					this.repaint(this.holeBounds(j + 1, i + 1));
+				}
+			}
+		}
+		
+		Rectangle oldLine = this.lineBounds(old);
+		Rectangle newLine = this.lineBounds(state);
+		
+		//Determine if the line through the connected checkers has appeared, moved or gone
+		if (oldLine != null && !oldLine.equals(newLine))
+		{
+			this.repaint(oldLine);
+		}
+		
+		if (newLine != null && !newLine.equals(oldLine))
+		{
+			this.repaint(newLine);
+		}
 	}
 	
 	public void paintComponent(Graphics g)
 	{
-		//Set scale
 		Graphics2D g2 = (Graphics2D) g;
-		g2.scale(this.getWidth() / 22, this.getHeight() / 19);
-		g2.setStroke(new BasicStroke(50.0F / this.getWidth()));
+		ModelState state = this.state == null ? this.model.getState() : this.state;
+		Rectangle clip = g2.getClipBounds();
 		
-		this.drawBoard(g2); //Draw the empty board
+		//Draw the empty board, which is drawn into its image again only if the size has changed
+		this.updateBackground(g2.getTransform().getScaleX());
 		
-		//Draw any checkers present on the board
-		for (int i = 0; i < 6; i++)
+		if (this.background != null)
 		{
-			for (int j = 0; j < 7; j++)
+			g2.drawImage(this.background, 0, 0, this.backgroundWidth, this.backgroundHeight, null);
+		}
+		
+		//Draw the checkers being repainted, a falling checker where it has fallen to
+		for (int i = 0; i < this.rows; i++)
+		{
+			for (int j = 0; j < this.columns; j++)
 			{
-				if (this.model.getGrid()[i][j] != 0)
+				Rectangle bounds = this.dropStarts[i][j] != 0 ? this.checkerBounds(j + 1, this.dropTops[i][j]) : this.holeBounds(j + 1, i + 1);
+				
+				if (state.getChecker(i, j) != 0 && (clip == null || clip.intersects(bounds)))
 				{
-					this.drawChecker(g2, j + 1, i + 1);
+					this.drawChecker(g2, state.getChecker(i, j), bounds);
 				}
 			}
 		}
 		
-		//Determine if the round is over and it is not a draw
-		if (this.model.getRoundOver() && !this.model.getWinner().equals("Draw"))
+		Rectangle line = this.lineBounds(state);
+		
+		//Determine if the round is over and it is not a draw, and the line is being repainted
+		if (line != null && (clip == null || clip.intersects(line)))
 		{
 			//Set the start and end points of the four checks that are connected
 			int row1, column1, row2, column2;
-			row1 = this.model.getEndPoints()[0][0] + 1;
-			column1 = this.model.getEndPoints()[0][1] + 1;
-			row2 = this.model.getEndPoints()[1][0] + 1;
-			column2 = this.model.getEndPoints()[1][1] + 1;
+			row1 = state.getEndRow(0) + 1;
+			column1 = state.getEndColumn(0) + 1;
+			row2 = state.getEndRow(1) + 1;
+			column2 = state.getEndColumn(1) + 1;
 			
 			//Draw a line that connects the four checkers
+			AffineTransform transform = g2.getTransform();
+			g2.scale(this.getWidth() / (this.columns * 3 + 1), this.getHeight() / (this.rows * 3 + 1));
+			g2.setStroke(this.stroke);
 			g2.setColor(Color.BLACK);
 			g2.drawLine(column1 * 3 - 1, row1 * 3 - 1, column2 * 3 - 1, row2 * 3 - 1);
+			g2.setTransform(transform);
 		}
 	}
 	
+	//Draw the empty board into its image if the board has changed size or moved to a screen with a different resolution
+	private void updateBackground(double scale)
+	{
+		if (this.background != null && this.backgroundWidth == this.getWidth() && this.backgroundHeight == this.getHeight() && this.backgroundScale == scale)
+		{
+			return;
+		}
+		
+		this.backgroundWidth = this.getWidth();
+		this.backgroundHeight = this.getHeight();
+		this.backgroundScale = scale;
+		this.stroke = new BasicStroke(50.0F / Math.max(this.getWidth(), 1));
+		int width = (int) Math.ceil(this.getWidth() * scale);
+		int height = (int) Math.ceil(this.getHeight() * scale);
+		
+		//Determine if the board is too small to be seen
+		if (width <= 0 || height <= 0)
+		{
+			this.background = null;
+			return;
+		}
+		
+		this.background = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g2 = this.background.createGraphics();
+		g2.scale(scale, scale);
+		g2.scale(this.getWidth() / (this.columns * 3 + 1), this.getHeight() / (this.rows * 3 + 1));
+		this.drawBoard(g2);
+		g2.dispose();
+	}
+	
 	//Draw an empty board
 	private void drawBoard(Graphics2D g2)
 	{
 		g2.setColor(Color.LIGHT_GRAY);
-		g2.fillRect(0, 0, 22, 19);
+		g2.fillRect(0, 0, this.columns * 3 + 1, this.rows * 3 + 1);
 		
 		g2.setColor(Color.WHITE);
 		
 		//Draw the holes
-		for (int i = 1; i <= 19; i += 3)
+		for (int i = 1; i <= this.columns * 3 - 2; i += 3)
 		{
-			for (int j = 1; j <= 16; j += 3)
+			for (int j = 1; j <= this.rows * 3 - 2; j += 3)
 			{
 				g2.fillOval(i, j, 2, 2);
 			}
 		}
 	}
 	
-	//Draw a checker on the specified row and column
-	private void drawChecker(Graphics2D g2, int column, int row)
+	//Change the size of the board being shown, any checkers falling are stopped and the empty board is drawn again
+	private void resize(Rules rules)
+	{
+		this.columns = rules.getWidth();
+		this.rows = rules.getHeight();
+		this.dropStarts = new long[this.rows][this.columns];
+		this.dropTops = new double[this.rows][this.columns];
+		this.drops = 0;
+		this.timer.stop();
+		this.background = null;
+	}
+	
+	//Start a new checker falling into its hole, the timer is started if it is the only one
+	private void startDrop(int row, int column)
+	{
+		if (this.dropStarts[row][column] == 0)
+		{
+			this.drops++;
+		}
+		
+		this.dropStarts[row][column] = System.nanoTime();
+		this.dropTops[row][column] = DROP_START;
+		this.timer.start();
+	}
+	
+	//Stop a checker falling, repainting where it was
+	private void stopDrop(int row, int column)
+	{
+		if (this.dropStarts[row][column] == 0)
+		{
+			return;
+		}
+		
+		this.repaint(this.checkerBounds(column + 1, this.dropTops[row][column]));
+		this.dropStarts[row][column] = 0;
+		this.drops--;
+	}
+	
+	//Move every falling checker to where it has fallen by now and repaint the part of its column it covered, from where it was drawn last to where it is now
+	private void animate()
+	{
+		long now = System.nanoTime();
+		
+		for (int i = 0; i < this.rows; i++)
+		{
+			for (int j = 0; j < this.columns; j++)
+			{
+				if (this.dropStarts[i][j] == 0)
+				{
+					continue;
+				}
+				
+				//Find where the checker has fallen from the time since it started, so a late frame moves it further rather than slowing it down
+				double seconds = (now - this.dropStarts[i][j]) / 1e9;
+				double bottom = i * 3 + 1; //Top of the checker once it is in its hole
+				double top = Math.min(bottom, DROP_START + GRAVITY * seconds * seconds / 2);
+				this.repaint(this.checkerBounds(j + 1, this.dropTops[i][j]).union(this.checkerBounds(j + 1, top)));
+				this.dropTops[i][j] = top;
+				
+				//Determine if the checker has reached its hole
+				if (top == bottom)
+				{
+					this.dropStarts[i][j] = 0;
+					this.drops--;
+				}
+			}
+		}
+		
+		if (this.drops == 0)
+		{
+			this.timer.stop();
+		}
+	}
+	
+	//Draw a checker of the player, 1, or computer, 2, in the specified pixels
+	private void drawChecker(Graphics2D g2, int checker, Rectangle bounds)
 	{
 		//Determine whether the checker is the player's or computer's
-		if (this.model.getGrid()[row - 1][column - 1] == 1)
+		if (checker == 1)
 		{
 			g2.setColor(Color.RED);
 		}
@@ -84,6 +274,39 @@ public class Board extends JComponent
 			g2.setColor(Color.YELLOW);
 		}
 		
-		g2.fillOval(column * 3 - 2, row * 3 - 2, 2, 2);
+		g2.fillOval(bounds.x, bounds.y, bounds.width - 1, bounds.height - 1);
+	}
+	
+	//Find the pixels covered by the hole on the specified row and column
+	private Rectangle holeBounds(int column, int row)
+	{
+		return this.checkerBounds(column, row * 3 - 2);
+	}
+	
+	//Find the pixels covered by a checker in the specified column whose top is at a height in board units
+	private Rectangle checkerBounds(int column, double top)
+	{
+		int unitWidth = this.getWidth() / (this.columns * 3 + 1); //Each hole is 2 units across with 1 unit around it, so the classic board is 22 units wide and 19 high
+		int unitHeight = this.getHeight() / (this.rows * 3 + 1);
+		return new Rectangle((column * 3 - 2) * unitWidth, (int) Math.round(top * unitHeight), 2 * unitWidth + 1, 2 * unitHeight + 1);
+	}
+	
+	//Find the pixels covered by the line through the connected checkers, null if there is none
+	private Rectangle lineBounds(ModelState state)
+	{
+		//Determine if the round is over and it is not a draw
+		if (!state.getRoundOver() || state.getWinner().equals("Draw"))
+		{
+			return null;
+		}
+		
+		int unitWidth = this.getWidth() / (this.columns * 3 + 1);
+		int unitHeight = this.getHeight() / (this.rows * 3 + 1);
+		int x1 = (state.getEndColumn(0) * 3 + 2) * unitWidth;
+		int y1 = (state.getEndRow(0) * 3 + 2) * unitHeight;
+		int x2 = (state.getEndColumn(1) * 3 + 2) * unitWidth;
+		int y2 = (state.getEndRow(1) * 3 + 2) * unitHeight;
+		int margin = (int) Math.ceil(50.0 / Math.max(this.getWidth(), 1) * Math.max(unitWidth, unitHeight)) + 1; //Half the stroke width and a pixel for rounding
+		return new Rectangle(Math.min(x1, x2) - margin, Math.min(y1, y2) - margin, Math.abs(x2 - x1) + 2 * margin, Math.abs(y2 - y1) + 2 * margin);
 	}
 } //End of class
\ No newline at end of file
@@ -0,0 +1,638 @@
+//Computer
+//Description: This class chooses the column for the computer's checker depending on its level.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+import java.util.*;
+
+public class Computer
+{
+	private static final int LOSING_PENALTY = 1000000; //Taken off the score of a column that lets the opponent connect four
+	private static final long SOLVER_NODE_LIMIT = 2000000; //Most positions the level 10 computer solves before it searches instead
+	private static final int[] WIDE_DEPTHS = {2, 6, 7, 0, 0, 2, 8, 8, 0, 0}; //Depth each level from 3 up searches on boards other than the classic one, 0 means as deep as it can in its thinking time
+
+	private int level; //Computer level
+	private SplittableRandom random; //Random numbers for the lower levels, each thread should use its own
+	private Search search; //Search engine for the level 4 to 6, 9, 10 and 12 computers
+	private ParallelSearch parallelSearch; //Search engine for the level 7 computer, which uses several threads, created for its first move
+	private OpeningBook book; //Precomputed columns for opening positions used by the searching levels, null if there is no book or the level does not use it
+	private Solver solver; //Plays perfectly for the level 10 computer once the position can be solved in time
+	private boolean solved; //If the last column was chosen by a finished solve
+	private int score; //Score of the last solved position, see Solver for its meaning
+	private Ponderer ponderer; //Searches the player's replies while the player thinks, for the level 12 computer
+	private boolean pondered; //If the last column was found while pondering
+	private int completedDepth; //Depth the level 12 computer's last search finished, which a pondered answer must reach
+	private TreeSearch treeSearch; //Plays random rounds for the level 11 computer, created for its first move
+	private long playoutLimit; //Most random rounds the level 11 computer plays for each move, 0 means it plays until its time runs out
+	private ThreatEvaluator evaluator; //Score kept up to date by the level 8 computer
+	private MoveCache cache; //Columns already chosen by the level 4, 5 and 9 computers, whose choices do not depend on time
+	private WideSearch wideSearch; //Searches boards other than the classic one, created for the rules of the first such board
+	private long thinkingTime; //Milliseconds the level 6, 7, 11 and 12 computers may think for each move
+	private int threads; //Number of threads the level 7 and 11 computers search with
+	private long nodes; //Number of positions searched for the last move, or random rounds played by the level 11 computer
+	private long nodesPerSecond; //Search speed of the last move
+
+	public Computer(int level)
+	{
+		this(level, new SplittableRandom());
+	}
+
+	public Computer(int level, SplittableRandom random)
+	{
+		this(level, random, true);
+	}
+
+	//Create a computer that may be told not to remember the columns it chose, so every move of the level 4, 5 and 9 computers is searched, as a benchmark needs
+	public Computer(int level, SplittableRandom random, boolean cached)
+	{
+		this.level = level;
+		this.random = random;
+		this.thinkingTime = 1000;
+		this.threads = Runtime.getRuntime().availableProcessors();
+		this.book = level >= 4 && level != 8 && level != 11 ? OpeningBook.getShared() : null; //The level 8 and 11 computers play without it, so they stay unlike the searching levels
+
+		//Initialize the search engine, level 5 remembers positions it has searched, level 6 searches deeper until its time runs out, level 9 orders columns so more of them are pruned and level 10 solves positions
+		switch (level)
+		{
+			case 4:
+				this.search = new Search(new TableEvaluator(), 8);
+				this.search.setEndgameDepth(12);
+				this.cache = new MoveCache(1 << 16, true);
+				break;
+			case 5:
+				this.search = new Search(new TableEvaluator(), 10);
+				this.search.setEndgameDepth(16);
+				this.search.setTable(new TranspositionTable(16, TranspositionTable.DEPTH_PREFERRED));
+				this.cache = new MoveCache(1 << 16, true);
+				break;
+			case 6:
+				this.search = new Search(new TableEvaluator(), 0);
+				this.search.setTable(new TranspositionTable(64, TranspositionTable.DEPTH_PREFERRED));
+				break;
+			case 8:
+				this.evaluator = new ThreatEvaluator();
+				break;
+			case 12:
+				this.search = new Search(new ThreatEvaluator(), 0);
+				this.search.setTable(new TranspositionTable(64, TranspositionTable.DEPTH_PREFERRED));
+				this.search.setOrdering(new MoveOrdering());
+				this.ponderer = new Ponderer(this.search.getTable());
+				break;
+			case 9:
+			case 10:
+				this.search = new Search(new ThreatEvaluator(), 12);
+				this.search.setEndgameDepth(20);
+				this.search.setTable(new TranspositionTable(16, TranspositionTable.DEPTH_PREFERRED));
+				this.search.setOrdering(new MoveOrdering());
+
+				//Determine if the computer solves positions, searching only when a solve would take too long
+				if (level == 10)
+				{
+					this.solver = new Solver(32);
+					this.solver.setNodeLimit(SOLVER_NODE_LIMIT);
+				}
+				else
+				{
+					this.cache = new MoveCache(1 << 16, true);
+				}
+
+				break;
+		}
+
+		//Determine if the columns chosen are not to be remembered
+		if (!cached)
+		{
+			this.cache = null;
+		}
+	}
+
+	//Choose a column for the side with the checker, the position is left unchanged
+	public int chooseColumn(Position position, int checker)
+	{
+		this.solved = false;
+		this.pondered = false;
+
+		//Determine if the computer solves the position, which comes before the book since a solved column is proven, if the solve runs out of positions the computer uses the book or searches ahead instead
+		if (this.solver != null)
+		{
+			int column = this.solver.bestMove(position, checker);
+
+			if (this.solver.isSolved())
+			{
+				this.solved = true;
+				this.score = this.solver.getScore();
+				this.nodes = this.solver.getNodes();
+				this.nodesPerSecond = this.solver.getNodesPerSecond();
+				return column;
+			}
+		}
+
+		//Determine if the position is in the opening book, otherwise the computer chooses a column depending on its level
+		if (this.book != null)
+		{
+			int column = this.book.lookup(position);
+
+			if (column != -1)
+			{
+				this.nodes = 0;
+				this.nodesPerSecond = 0;
+				return column;
+			}
+		}
+
+		//Determine if the computer searches ahead on several threads
+		if (this.level == 7)
+		{
+			//Determine if the search has to be created, which waits until the first move so it starts with the number of threads set last
+			if (this.parallelSearch == null)
+			{
+				this.parallelSearch = new ParallelSearch(this.threads, 64);
+			}
+
+			int column = this.parallelSearch.bestMove(position, checker, this.thinkingTime, Position.WIDTH * Position.HEIGHT);
+			this.nodes = this.parallelSearch.getNodes();
+			this.nodesPerSecond = this.parallelSearch.getNodesPerSecond();
+			return column;
+		}
+
+		//Determine if the computer thinks on the player's time
+		if (this.ponderer != null)
+		{
+			return this.ponder(position, checker);
+		}
+
+		//Determine if the computer plays random rounds
+		if (this.level == 11)
+		{
+			//Determine if the tree has to be created, which waits until the first move so it starts with the number of threads set last
+			if (this.treeSearch == null)
+			{
+				this.treeSearch = new TreeSearch(this.threads, 1 << 21);
+			}
+
+			int column = this.treeSearch.bestMove(position, checker, this.thinkingTime, this.playoutLimit);
+			this.nodes = this.treeSearch.getPlayouts();
+			this.nodesPerSecond = this.treeSearch.getPlayoutsPerSecond();
+			return column;
+		}
+
+		//Determine if the computer ranks the columns by their threats
+		if (this.level == 8)
+		{
+			return this.rankColumns(position, checker);
+		}
+
+		//Determine if the computer has already chosen a column in this position or its mirror image
+		if (this.cache != null)
+		{
+			int column = this.cache.get(position);
+
+			if (column != -1)
+			{
+				this.nodes = 0;
+				this.nodesPerSecond = 0;
+				return column;
+			}
+		}
+
+		//Determine if the computer searches ahead
+		if (this.level >= 4)
+		{
+			int column = this.level == 6 ? this.search.bestMove(position, checker, this.thinkingTime) : this.search.bestMove(position, checker);
+			this.nodes = this.search.getNodes();
+			this.nodesPerSecond = this.search.getNodesPerSecond();
+
+			if (this.cache != null)
+			{
+				this.cache.put(position, column);
+			}
+
+			return column;
+		}
+
+		int number = 0; //Random number for level 1 computer
+
+		//Determine computer level
+		if (this.level == 1)
+		{
+			number = this.random.nextInt(3); //Generate a random integer from 0 to 2
+		}
+
+		//Determine if the random number is not 0, which has a 2/3 chance for the level 1 computer
+		if (number != 0)
+		{
+			return this.randomColumn(position);
+		}
+
+		int column = this.connect(position, checker);
+
+		//Determine if the computer can connect four
+		if (column != -1)
+		{
+			return column;
+		}
+
+		column = this.block(position, checker);
+
+		//Determine if the computer can block the player from connecting four
+		if (column != -1)
+		{
+			return column;
+		}
+
+		//Determine computer level
+		if (this.level != 3)
+		{
+			return this.randomColumn(position);
+		}
+
+		return this.lookAhead(position, checker);
+	}
+
+	//Answer with the column found while the player was thinking if it was searched deep enough, otherwise search for the thinking time starting from what pondering stored in the table
+	//Then start pondering the replies to the chosen column
+	private int ponder(Position position, int checker)
+	{
+		this.ponderer.stop();
+
+		//A pondered position is one checker further on than the one the last search started from, so it may be one checker shallower
+		int column = this.ponderer.lookup(position, this.completedDepth - 1);
+
+		if (column != -1)
+		{
+			this.pondered = true;
+			this.nodes = this.ponderer.getNodes();
+			this.nodesPerSecond = 0;
+		}
+		else
+		{
+			column = this.search.bestMove(position, checker, this.thinkingTime);
+			this.completedDepth = this.search.getCompletedDepth();
+			this.nodes = this.search.getNodes();
+			this.nodesPerSecond = this.search.getNodesPerSecond();
+		}
+
+		//Determine if the round goes on after the column, in which case the player's replies are pondered, unless the move has been cancelled while it was searched
+		if (!position.isWinningMove(column, checker) && position.getMoves() + 1 < Position.WIDTH * Position.HEIGHT)
+		{
+			position.drop(column, checker);
+			this.ponderer.start(position, 3 - checker);
+			position.undo(column);
+		}
+
+		return column;
+	}
+
+	//Stop thinking on the player's time, such as when the round is over or the computer is replaced
+	public void stopPondering()
+	{
+		if (this.ponderer != null)
+		{
+			this.ponderer.stop();
+		}
+	}
+
+	//Forget the positions searched and the columns chosen, so the next move is searched as if the computer had just been created
+	public void clear()
+	{
+		this.stopPondering();
+
+		if (this.search != null && this.search.getTable() != null)
+		{
+			this.search.getTable().clear();
+		}
+
+		if (this.parallelSearch != null)
+		{
+			this.parallelSearch.getTable().clear();
+		}
+
+		if (this.solver != null)
+		{
+			this.solver.clear();
+		}
+
+		if (this.cache != null)
+		{
+			this.cache.clear();
+		}
+	}
+
+	//Stop the threads the computer searches with, the computer cannot be used afterwards
+	public void close()
+	{
+		if (this.ponderer != null)
+		{
+			this.ponderer.close();
+		}
+
+		if (this.parallelSearch != null)
+		{
+			this.parallelSearch.close();
+		}
+
+		if (this.treeSearch != null)
+		{
+			this.treeSearch.close();
+		}
+	}
+
+	//Choose a column for the side with the checker on a board of any size, the position is left unchanged, return -1 if the board is full
+	//On the classic board the Position kept in step with it is searched so every level plays as it always has, other boards have no book, solver or tables so every level searches them instead
+	public int chooseColumn(WidePosition position, int checker)
+	{
+		Rules rules = position.getRules();
+
+		//Determine if the board is the classic one
+		if (rules.isClassic())
+		{
+			return this.chooseColumn(position.getPosition(), checker);
+		}
+
+		this.solved = false;
+		this.pondered = false;
+		this.nodes = 0;
+		this.nodesPerSecond = 0;
+
+		//Determine if the level 1 or 2 computer connects or blocks, the level 1 computer only looks for a column one time in three and otherwise chooses at random
+		if (this.level <= 2)
+		{
+			int column = this.level == 2 || this.random.nextInt(3) == 0 ? this.connect(position, checker) : -2; //-2 means the computer does not look
+
+			if (column == -1)
+			{
+				column = this.connect(position, 3 - checker);
+			}
+
+			return column >= 0 ? column : this.randomColumn(position);
+		}
+
+		//Determine if the search was made for other rules, the same computer is reused between games
+		if (this.wideSearch == null || !this.wideSearch.getRules().equals(rules))
+		{
+			this.wideSearch = new WideSearch(rules);
+		}
+
+		//Search ahead, the level 3 computer only as far as the opponent's reply
+		int depth = WIDE_DEPTHS[this.level - 3];
+		int column = this.wideSearch.bestMove(position, checker, depth == 0 ? rules.getArea() : depth, depth == 0 ? this.thinkingTime : 0);
+		this.nodes = this.wideSearch.getNodes();
+		this.nodesPerSecond = this.wideSearch.getNodesPerSecond();
+		return column;
+	}
+
+	//Find a column that connects four of the side's checkers, return -1 if there is none
+	private int connect(Position position, int checker)
+	{
+		//Check through every column
+		for (int i = 0; i < Position.WIDTH; i++)
+		{
+			if (position.canPlay(i) && position.isWinningMove(i, checker))
+			{
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	//Find a column that connects enough of the side's checkers to win on a board of any size, return -1 if there is none
+	private int connect(WidePosition position, int checker)
+	{
+		for (int i = 0; i < position.getRules().getWidth(); i++)
+		{
+			if (position.canPlay(i) && position.isWinningMove(i, checker))
+			{
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	//Find a column that blocks the opponent from connecting four, return -1 if there is none
+	private int block(Position position, int checker)
+	{
+		return this.connect(position, 3 - checker);
+	}
+
+	//Choose a random column that does not give the opponent a chance to win or block, in this way the computer thinks a move ahead considering the opponent's turn
+	private int lookAhead(Position position, int checker)
+	{
+		ArrayList<Integer> safeColumns = new ArrayList<Integer>(); //Columns that do not give the opponent a chance to win or block
+
+		//Check through all columns that have at least two empty holes
+		for (int i = 0; i < Position.WIDTH; i++)
+		{
+			if (position.getHeight(i) >= Position.HEIGHT - 1)
+			{
+				continue;
+			}
+
+			position.drop(i, checker); //Suppose the computer places a checker at the current column
+
+			//Determine if the opponent can win, or block the computer from winning, by placing their checker in the same column for their turn
+			boolean unsafe = position.isWinningMove(i, 3 - checker) || position.isWinningMove(i, checker);
+
+			position.undo(i); //Reset the hole in the current column
+
+			if (!unsafe)
+			{
+				safeColumns.add(i);
+			}
+		}
+
+		//Add all columns that have only one empty hole to the list of available columns
+		for (int i = 0; i < Position.WIDTH; i++)
+		{
+			if (position.getHeight(i) == Position.HEIGHT - 1)
+			{
+				safeColumns.add(i);
+			}
+		}
+
+		//Determine if every column is unsafe, in which case any available column is used
+		if (safeColumns.size() == 0)
+		{
+			return this.randomColumn(position);
+		}
+
+		//Randomly choose one of the columns that remain in the list
+		return safeColumns.get(this.random.nextInt(safeColumns.size()));
+	}
+
+	//Choose the column whose resulting position scores best, not counting columns that let the opponent connect four on top unless every column does
+	private int rankColumns(Position position, int checker)
+	{
+		int column = this.connect(position, checker);
+
+		//Determine if the computer can connect four or must block the opponent
+		if (column == -1)
+		{
+			column = this.block(position, checker);
+		}
+
+		if (column != -1)
+		{
+			return column;
+		}
+
+		int bestScore = Integer.MIN_VALUE;
+		int ties = 0; //Number of columns sharing the best score, one of which is chosen at random
+
+		//Check each column, the evaluator only rescores the lines through the checker dropped and the one removed before it
+		for (int i = 0; i < Position.WIDTH; i++)
+		{
+			if (!position.canPlay(i))
+			{
+				continue;
+			}
+
+			position.drop(i, checker);
+			int score = this.evaluator.evaluate(position, checker);
+
+			//Determine if the opponent could connect four by placing a checker on top of this one
+			if (position.canPlay(i) && position.isWinningMove(i, 3 - checker))
+			{
+				score -= LOSING_PENALTY;
+			}
+
+			position.undo(i);
+
+			if (score > bestScore)
+			{
+				bestScore = score;
+				column = i;
+				ties = 1;
+			}
+			else if (score == bestScore && this.random.nextInt(++ties) == 0)
+			{
+				column = i;
+			}
+		}
+
+		return column;
+	}
+
+	//Choose a random column that is not full
+	private int randomColumn(Position position)
+	{
+		ArrayList<Integer> vacantColumns = new ArrayList<Integer>(); //List of columns that computer can place a checker in
+
+		//Check each column
+		for (int i = 0; i < Position.WIDTH; i++)
+		{
+			//Determine if the column is not full
+			if (position.canPlay(i))
+			{
+				vacantColumns.add(i);
+			}
+		}
+
+		return vacantColumns.get(this.random.nextInt(vacantColumns.size()));
+	}
+
+	//Choose a random column that is not full on a board of any size, return -1 if every column is full
+	private int randomColumn(WidePosition position)
+	{
+		//Determine if the board is full, in which case no column can be chosen
+		if (position.isFull())
+		{
+			return -1;
+		}
+
+		int column;
+
+		do
+		{
+			column = this.random.nextInt(position.getRules().getWidth());
+		}
+		while (!position.canPlay(column));
+
+		return column;
+	}
+
+	//Accessor methods to set or get values of instance variables
+	//Set the opening book, or null to use none
+	public void setBook(OpeningBook book)
+	{
+		this.book = book;
+	}
+
+	public OpeningBook getBook()
+	{
+		return this.book;
+	}
+
+	public Solver getSolver()
+	{
+		return this.solver;
+	}
+
+	//Determine if the last column was found while the player was thinking
+	public boolean isPondered()
+	{
+		return this.pondered;
+	}
+
+	//Determine if the last column was chosen by solving the position, in which case getScore() is its exact score
+	public boolean isSolved()
+	{
+		return this.solved;
+	}
+
+	public int getScore()
+	{
+		return this.score;
+	}
+
+	public MoveCache getCache()
+	{
+		return this.cache;
+	}
+
+	//Set the number of threads the level 7 and 11 computers search with
+	public void setThreads(int threads)
+	{
+		this.threads = threads;
+
+		//Determine if the level 7 or 11 search was created with a different number of threads, in which case it is replaced before the next move
+		if (this.parallelSearch != null && threads != this.parallelSearch.getThreads())
+		{
+			this.parallelSearch.close();
+			this.parallelSearch = null;
+		}
+
+		if (this.treeSearch != null && threads != this.treeSearch.getThreads())
+		{
+			this.treeSearch.close();
+			this.treeSearch = null;
+		}
+	}
+
+	//Set the most random rounds the level 11 computer plays for each move, 0 means it plays until its time runs out
+	public void setPlayoutLimit(long playoutLimit)
+	{
+		this.playoutLimit = playoutLimit;
+	}
+
+	//Set the milliseconds the level 6, 7, 11 and 12 computers may think for each move
+	public void setThinkingTime(long thinkingTime)
+	{
+		this.thinkingTime = thinkingTime;
+	}
+
+	public int getLevel()
+	{
+		return this.level;
+	}
+
+	public long getNodes()
+	{
+		return this.nodes;
+	}
+
+	public long getNodesPerSecond()
+	{
+		return this.nodesPerSecond;
+	}
+} //End of class
\ No newline at end of file
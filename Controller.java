@@ -1,7 +1,7 @@
 //Controller
 //Description: This class creates a Controller for the interactive components in the GUI.
 //Created By: Wentan Su
-//Last Modified: Jan 22, 2023
+//Last Modified: Oct 18, 2026
 import java.awt.event.*;
 import javax.swing.*;
 
@@ -9,11 +9,13 @@ public class Controller implements ActionListener
 {
 	private Model model;
 	private JTextField roundNum; //Textfield to input the number of rounds for the game
+	private JComboBox<Rules> rules; //Size of the board and the number of checkers to connect
 	
-	public Controller(Model model, JTextField roundNum)
+	public Controller(Model model, JTextField roundNum, JComboBox<Rules> rules)
 	{
 		this.model = model;
 		this.roundNum = roundNum;
+		this.rules = rules;
 	}
 	
 	public void actionPerformed(ActionEvent e)
@@ -21,6 +23,18 @@ public class Controller implements ActionListener
 		//Determine which component is used
 		switch (Integer.parseInt(e.getActionCommand()))
 		{
+			case 7:
+				this.model.setRules((Rules) this.rules.getSelectedItem());
+				break;
+			case 8:
+				this.model.hint();
+				break;
+			case 9:
+				this.model.undo();
+				break;
+			case 10:
+				this.model.redo();
+				break;
 			case 11:
 				//Input the number of rounds of play
 				int maxRound = 0;
@@ -58,8 +72,35 @@ public class Controller implements ActionListener
 			case 18:
 				this.model.setLevel(3);
 				break;
+			case 19:
+				this.model.setLevel(4);
+				break;
+			case 20:
+				this.model.setLevel(5);
+				break;
+			case 21:
+				this.model.setLevel(6);
+				break;
+			case 22:
+				this.model.setLevel(7);
+				break;
+			case 23:
+				this.model.setLevel(8);
+				break;
+			case 24:
+				this.model.setLevel(9);
+				break;
+			case 25:
+				this.model.setLevel(10);
+				break;
+			case 26:
+				this.model.setLevel(11);
+				break;
+			case 27:
+				this.model.setLevel(12);
+				break;
 			default:
-				this.model.place(Integer.parseInt(e.getActionCommand())); //Place a checker for the player
+				this.model.place(Integer.parseInt(e.getActionCommand()) - 100); //Place a checker for the player, the command of each column is 100 plus its index
 		}
 	}
 } //End of class
\ No newline at end of file
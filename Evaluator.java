@@ -0,0 +1,10 @@
+//Evaluator
+//Description: This interface scores a position for a search that stops before the end of the round.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+
+public interface Evaluator
+{
+	//Score the position from the side of the checker, a higher score is better for that side
+	public int evaluate(Position position, int checker);
+} //End of class
@@ -0,0 +1,326 @@
+//GameLog
+//Description: This class writes the results of each game to its file, and the moves of each round to a binary file, on a background thread so writing files never slows down a move.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+import java.util.*;
+import java.util.concurrent.*;
+import java.io.*;
+
+public class GameLog
+{
+	//A line to be written to the file of a game
+	private static class Entry
+	{
+		private int game; //Number of the game, which names its file
+		private String text; //Line of text, null if the entry is a record
+		private boolean last; //If this is the last line of the game, after which its file is closed
+		private GameRecord record; //Moves of a round for the binary file, null if the entry is a line of text
+
+		private Entry(int game, String text, boolean last, GameRecord record)
+		{
+			this.game = game;
+			this.text = text;
+			this.last = last;
+			this.record = record;
+		}
+	}
+
+	private static final Entry STOP = new Entry(0, null, true, null); //Tells the writer thread to finish
+	private static final String RECORD_FILE = "Games.bin"; //Binary file that the moves of every round are added to
+
+	private ArrayBlockingQueue<Entry> queue; //Lines waiting to be written
+	private ConcurrentLinkedQueue<Integer> closes = new ConcurrentLinkedQueue<Integer>(); //Games whose last line was dropped, whose files the writer still closes
+	private int batchSize; //Number of lines written before the file is flushed
+	private long flushMillis; //Longest time a written line waits before the file is flushed
+	private Thread writer;
+	private PrintWriter output; //File of the game being written, null if none is open
+	private int game; //Number of the game whose file is open
+	private GameRecordWriter records; //Binary file of rounds, opened when the first round is recorded
+
+	//Counters for monitoring the queue, they are only approximate while the writer is running
+	private volatile long queued; //Lines added to the queue
+	private volatile long dropped; //Lines thrown away because the queue was full
+	private volatile long written; //Lines written to files
+	private volatile long flushes; //Number of times a file was flushed
+	private volatile int highWater; //Most lines waiting in the queue at once
+
+	public GameLog()
+	{
+		this(4096, 64, 200);
+	}
+
+	public GameLog(int capacity, int batchSize, long flushMillis)
+	{
+		this.queue = new ArrayBlockingQueue<Entry>(capacity);
+		this.batchSize = batchSize;
+		this.flushMillis = flushMillis;
+
+		//Use a daemon thread so an unclosed log never keeps the program running
+		this.writer = new Thread(this::run, "Game log");
+		this.writer.setDaemon(true);
+		this.writer.start();
+	}
+
+	//Add a line to the file of a game without waiting, the line is dropped if the queue is full
+	public void write(int game, String text)
+	{
+		this.add(new Entry(game, text, false, null));
+	}
+
+	//Add the last line of a game, after which its file is closed, if the queue is full the line is dropped but the file is still closed
+	public void finish(int game, String text)
+	{
+		if (!this.add(new Entry(game, text, true, null)))
+		{
+			this.closes.add(game);
+		}
+	}
+
+	//Add the moves of a round to the binary file, the record is copied so the caller may reuse it
+	public void record(GameRecord record)
+	{
+		GameRecord copy = new GameRecord();
+		copy.copy(record);
+		this.add(new Entry(0, null, false, copy));
+	}
+
+	//Write all waiting lines, close the open file and stop the writer thread
+	public void close()
+	{
+		try
+		{
+			this.queue.put(STOP); //Wait for space, closing must not lose the last lines
+			this.writer.join();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	//Add an entry to the queue, return false if it was dropped
+	private boolean add(Entry entry)
+	{
+		//Determine if the queue is full, in which case the caller is not kept waiting
+		if (!this.queue.offer(entry))
+		{
+			this.dropped++;
+			return false;
+		}
+
+		this.queued++;
+		this.highWater = Math.max(this.highWater, this.queue.size());
+		return true;
+	}
+
+	//Take lines from the queue in batches and write them, flushing after enough lines or enough time
+	private void run()
+	{
+		ArrayList<Entry> batch = new ArrayList<Entry>();
+		int unflushed = 0; //Lines written since the last flush
+		long lastFlush = System.currentTimeMillis();
+
+		try
+		{
+			while (true)
+			{
+				//Wait for a line, but no longer than the flush interval
+				Entry first = this.queue.poll(this.flushMillis, TimeUnit.MILLISECONDS);
+
+				if (first != null)
+				{
+					batch.add(first);
+					this.queue.drainTo(batch, this.batchSize - 1);
+				}
+
+				for (int i = 0; i < batch.size(); i++)
+				{
+					Entry entry = batch.get(i);
+
+					if (entry == STOP)
+					{
+						this.closeFile();
+						this.closeRecords();
+						return;
+					}
+
+					this.writeEntry(entry);
+					unflushed++;
+				}
+
+				batch.clear();
+				this.closeDropped();
+
+				//Determine if the written lines should be flushed to the file
+				if (unflushed > 0 && (unflushed >= this.batchSize || System.currentTimeMillis() - lastFlush >= this.flushMillis))
+				{
+					this.flush();
+					this.flushes++;
+					unflushed = 0;
+					lastFlush = System.currentTimeMillis();
+				}
+			}
+		}
+		catch (InterruptedException e)
+		{
+			this.closeFile();
+			this.closeRecords();
+		}
+	}
+
+	//Close the files of games whose last line was dropped, once every line queued before it has been written, which is when the queue is empty
+	private void closeDropped()
+	{
+		Integer game = this.closes.peek();
+
+		while (game != null && this.queue.isEmpty())
+		{
+			this.closes.poll();
+
+			if (this.output != null && game == this.game)
+			{
+				this.closeFile();
+			}
+
+			game = this.closes.peek();
+		}
+	}
+
+	//Write a line to the file of its game, opening the file if needed
+	private void writeEntry(Entry entry)
+	{
+		//Determine if the entry is a record for the binary file
+		if (entry.record != null)
+		{
+			this.writeRecord(entry.record);
+			return;
+		}
+
+		//Determine if the line belongs to another game, in which case the old file is closed so files never stay open between games
+		if (this.output != null && entry.game != this.game)
+		{
+			this.closeFile();
+		}
+
+		if (this.output == null)
+		{
+			try
+			{
+				this.output = new PrintWriter(new BufferedWriter(new FileWriter("Game " + entry.game + ".txt")));
+				this.game = entry.game;
+			}
+			catch (IOException e)
+			{
+				e.printStackTrace();
+				return;
+			}
+		}
+
+		this.output.println(entry.text);
+		this.written++;
+
+		if (entry.last)
+		{
+			this.closeFile();
+		}
+	}
+
+	//Add a record to the binary file, opening the file if needed
+	private void writeRecord(GameRecord record)
+	{
+		try
+		{
+			if (this.records == null)
+			{
+				this.records = new GameRecordWriter(RECORD_FILE);
+			}
+
+			this.records.append(record);
+			this.written++;
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace();
+		}
+	}
+
+	//Flush the open files
+	private void flush()
+	{
+		if (this.output != null)
+		{
+			this.output.flush();
+		}
+
+		try
+		{
+			if (this.records != null)
+			{
+				this.records.flush();
+			}
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace();
+		}
+	}
+
+	//Close the file of the game being written
+	private void closeFile()
+	{
+		if (this.output != null)
+		{
+			this.output.close();
+			this.flushes++;
+			this.output = null;
+		}
+	}
+
+	//Close the binary file
+	private void closeRecords()
+	{
+		try
+		{
+			if (this.records != null)
+			{
+				this.records.close();
+				this.records = null;
+			}
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace();
+		}
+	}
+
+	//Accessor methods to get values of instance variables
+	public int getQueueSize()
+	{
+		return this.queue.size();
+	}
+
+	public long getQueued()
+	{
+		return this.queued;
+	}
+
+	public long getDropped()
+	{
+		return this.dropped;
+	}
+
+	public long getWritten()
+	{
+		return this.written;
+	}
+
+	public long getFlushes()
+	{
+		return this.flushes;
+	}
+
+	public int getHighWater()
+	{
+		return this.highWater;
+	}
+} //End of class
\ No newline at end of file
@@ -0,0 +1,111 @@
+//GameRecord
+//Description: This class stores one round as a fixed size binary record, with each column played packed into 3 bits so all 42 moves fit in 16 bytes.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+import java.nio.*;
+
+public class GameRecord
+{
+	public static final int SIZE = 28; //Bytes used by each record in a file
+	private static final int MOVES_PER_LONG = 21; //Number of 3 bit moves that fit in a long
+
+	private long timestamp; //Milliseconds since 1970 when the round ended
+	private long[] moves = new long[2]; //Columns played in order, 3 bits each
+	private int moveCount;
+	private int level; //Computer level
+	private int result; //0, 1 and 2 represent a draw, a player win and a computer win respectively
+
+	//Clear the record for a new round
+	public void reset()
+	{
+		this.moves[0] = 0;
+		this.moves[1] = 0;
+		this.moveCount = 0;
+		this.timestamp = 0;
+		this.level = 0;
+		this.result = 0;
+	}
+
+	//Add the column of the next checker
+	public void addMove(int column)
+	{
+		this.moves[this.moveCount / MOVES_PER_LONG] |= (long) column << (3 * (this.moveCount % MOVES_PER_LONG));
+		this.moveCount++;
+	}
+
+	//Remove the column of the last checker
+	public void removeMove()
+	{
+		this.moveCount--;
+		this.moves[this.moveCount / MOVES_PER_LONG] &= ~(7L << (3 * (this.moveCount % MOVES_PER_LONG)));
+	}
+
+	//Get the column of a checker, the first checker is 0
+	public int getMove(int index)
+	{
+		return (int) (this.moves[index / MOVES_PER_LONG] >>> (3 * (index % MOVES_PER_LONG))) & 7;
+	}
+
+	//Set the details of the round once it is over
+	public void finish(int level, int result, long timestamp)
+	{
+		this.level = level;
+		this.result = result;
+		this.timestamp = timestamp;
+	}
+
+	//Copy another record into this one
+	public void copy(GameRecord other)
+	{
+		this.timestamp = other.timestamp;
+		this.moves[0] = other.moves[0];
+		this.moves[1] = other.moves[1];
+		this.moveCount = other.moveCount;
+		this.level = other.level;
+		this.result = other.result;
+	}
+
+	//Write the record at the position of the buffer
+	public void write(ByteBuffer buffer)
+	{
+		buffer.putLong(this.timestamp);
+		buffer.putLong(this.moves[0]);
+		buffer.putLong(this.moves[1]);
+		buffer.put((byte) this.moveCount);
+		buffer.put((byte) this.level);
+		buffer.put((byte) this.result);
+		buffer.put((byte) 0); //Reserved
+	}
+
+	//Read the record stored at an offset of the buffer, without moving the position of the buffer
+	public void read(ByteBuffer buffer, int offset)
+	{
+		this.timestamp = buffer.getLong(offset);
+		this.moves[0] = buffer.getLong(offset + 8);
+		this.moves[1] = buffer.getLong(offset + 16);
+		this.moveCount = buffer.get(offset + 24);
+		this.level = buffer.get(offset + 25);
+		this.result = buffer.get(offset + 26);
+	}
+
+	//Accessor methods to get values of instance variables
+	public long getTimestamp()
+	{
+		return this.timestamp;
+	}
+
+	public int getMoveCount()
+	{
+		return this.moveCount;
+	}
+
+	public int getLevel()
+	{
+		return this.level;
+	}
+
+	public int getResult()
+	{
+		return this.result;
+	}
+} //End of class
\ No newline at end of file
@@ -0,0 +1,80 @@
+//GameRecordReader
+//Description: This program reads a binary file of game records through memory maps, so files far larger than the heap can be streamed.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.function.*;
+
+public class GameRecordReader
+{
+	private static final long CHUNK = (Integer.MAX_VALUE / GameRecord.SIZE) * (long) GameRecord.SIZE; //Largest whole number of records one map can hold
+
+	private String file;
+
+	public GameRecordReader(String file)
+	{
+		this.file = file;
+	}
+
+	//Pass every record of the file to the visitor in order, the same record object is reused for each one so it must not be kept
+	public long forEach(Consumer<GameRecord> visitor) throws IOException
+	{
+		GameRecord record = new GameRecord();
+		long count = 0;
+
+		try (FileChannel channel = FileChannel.open(Paths.get(this.file), StandardOpenOption.READ))
+		{
+			long size = channel.size() - channel.size() % GameRecord.SIZE; //A record that is still being written is skipped
+
+			//Map the file one chunk at a time
+			for (long start = 0; start < size; start += CHUNK)
+			{
+				MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(CHUNK, size - start));
+				buffer.order(ByteOrder.BIG_ENDIAN);
+
+				for (int offset = 0; offset < buffer.limit(); offset += GameRecord.SIZE)
+				{
+					record.read(buffer, offset);
+					visitor.accept(record);
+					count++;
+				}
+			}
+		}
+
+		return count;
+	}
+
+	//Usage: java GameRecordReader [file]
+	public static void main(String[] args) throws IOException
+	{
+		String file = args.length > 0 ? args[0] : "Games.bin";
+		long[][] results = new long[16][3]; //Results of each level
+		long[] moves = new long[1]; //Total number of checkers placed
+		long start = System.nanoTime();
+
+		long count = new GameRecordReader(file).forEach(record ->
+		{
+			results[record.getLevel() & 15][record.getResult()]++;
+			moves[0] += record.getMoveCount();
+		});
+
+		double seconds = (System.nanoTime() - start) / 1e9;
+		System.out.println(count + " rounds read in " + String.format("%.2f", seconds) + " seconds, " + String.format("%.0f", count / seconds) + " rounds per second");
+
+		if (count > 0)
+		{
+			System.out.println("Average length " + String.format("%.1f", (double) moves[0] / count) + " checkers");
+		}
+
+		for (int i = 0; i < results.length; i++)
+		{
+			if (results[i][0] + results[i][1] + results[i][2] > 0)
+			{
+				System.out.println("Level " + i + ": player won " + results[i][1] + ", draws " + results[i][0] + ", computer won " + results[i][2]);
+			}
+		}
+	}
+} //End of class
\ No newline at end of file
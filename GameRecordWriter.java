@@ -0,0 +1,50 @@
+//GameRecordWriter
+//Description: This class appends game records to a binary file.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+
+public class GameRecordWriter
+{
+	private FileChannel channel;
+	private ByteBuffer buffer; //Records waiting to be written, reused for every write
+
+	public GameRecordWriter(String file) throws IOException
+	{
+		this.channel = FileChannel.open(Paths.get(file), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		this.buffer = ByteBuffer.allocateDirect(GameRecord.SIZE * 1024);
+	}
+
+	//Add a record to the end of the file, records are kept in memory until the buffer is full or flush is called
+	public void append(GameRecord record) throws IOException
+	{
+		if (this.buffer.remaining() < GameRecord.SIZE)
+		{
+			this.flush();
+		}
+
+		record.write(this.buffer);
+	}
+
+	//Write the records in memory to the file
+	public void flush() throws IOException
+	{
+		this.buffer.flip();
+
+		while (this.buffer.hasRemaining())
+		{
+			this.channel.write(this.buffer);
+		}
+
+		this.buffer.clear();
+	}
+
+	public void close() throws IOException
+	{
+		this.flush();
+		this.channel.close();
+	}
+} //End of class
\ No newline at end of file
@@ -0,0 +1,319 @@
+//GameServer
+//Description: This program hosts many Connect 4 games at once over a line based TCP protocol, each connection playing its own game against the computer with its own Model.
+//Each connection is served by its own thread while the computer's moves are computed on a bounded pool of threads, so slow searches cannot stop other connections from being read.
+//The connection threads are virtual threads on Java 21 and later. Java 17, which the game is built with, has none, so there each connection takes a platform thread from a cached pool and the server says so when it starts.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+import java.io.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+public class GameServer
+{
+	public static final int DEFAULT_PORT = 4444;
+	private static final int[] LEVELS = {1, 2, 3, 8}; //Levels a connection may play, the levels with tables would need megabytes for each connection
+
+	private ServerSocket server;
+	private ExecutorService connections; //Serves each connection, one thread per connection
+	private ExecutorService computers; //Computes the computer's moves for every connection, with at most one thread per processor
+	private AtomicInteger sessions = new AtomicInteger(); //Number of connections open
+	private AtomicLong moves = new AtomicLong(); //Number of moves played by every connection
+
+	public GameServer(int port, int threads) throws IOException
+	{
+		this.server = new ServerSocket(port, 1024);
+		this.connections = newThreadPerTaskExecutor("Session");
+		this.computers = Executors.newFixedThreadPool(threads, runnable ->
+		{
+			Thread thread = new Thread(runnable, "Computer");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	//Create an executor that runs each task on a new virtual thread, or on a daemon thread from a cached pool if the Java version has no virtual threads
+	public static ExecutorService newThreadPerTaskExecutor(String name)
+	{
+		//Determine if the Java version has virtual threads
+		if (hasVirtualThreads())
+		{
+			try
+			{
+				return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			}
+			catch (ReflectiveOperationException e)
+			{
+				throw new IllegalStateException("Cannot create virtual threads", e);
+			}
+		}
+
+		return Executors.newCachedThreadPool(runnable ->
+		{
+			Thread thread = new Thread(runnable, name);
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	//Determine if the Java version has virtual threads, which came in Java 21
+	public static boolean hasVirtualThreads()
+	{
+		try
+		{
+			Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return true;
+		}
+		catch (NoSuchMethodException e)
+		{
+			return false;
+		}
+	}
+
+	//Accept connections until the server is closed
+	public void run()
+	{
+		while (!this.server.isClosed())
+		{
+			try
+			{
+				Socket socket = this.server.accept();
+				this.connections.execute(() -> this.serve(socket));
+			}
+			catch (IOException e)
+			{
+				//The server has been closed, or the connection was lost before it was accepted
+				if (this.server.isClosed())
+				{
+					break;
+				}
+			}
+		}
+	}
+
+	//Stop accepting connections
+	public void close()
+	{
+		try
+		{
+			this.server.close();
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace();
+		}
+
+		this.connections.shutdownNow();
+		this.computers.shutdownNow();
+	}
+
+	//Play a game with one connection until it quits or the connection is lost
+	private void serve(Socket socket)
+	{
+		Model model = new Model(false); //No files are written
+		this.sessions.incrementAndGet();
+
+		try (Socket connection = socket;
+			BufferedReader in = new BufferedReader(new InputStreamReader(connection.getInputStream(), "US-ASCII"));
+			PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(connection.getOutputStream(), "US-ASCII"))))
+		{
+			connection.setTcpNoDelay(true); //Answers are single short lines, which should not wait to be combined
+			out.println("READY");
+			out.flush();
+			String line;
+
+			while ((line = in.readLine()) != null)
+			{
+				String reply = this.handle(model, line.trim().split("\\s+"));
+
+				//Determine if the connection has quit
+				if (reply == null)
+				{
+					out.println("BYE");
+					out.flush();
+					break;
+				}
+
+				out.println(reply);
+				out.flush();
+			}
+		}
+		catch (IOException e)
+		{
+			//The connection was lost, its game is thrown away
+		}
+		finally
+		{
+			this.sessions.decrementAndGet();
+		}
+	}
+
+	//Carry out one command and return the line to send back, return null if the connection quits
+	//NEW level rounds starts a game, PLACE column places the player's checker in a column numbered from 1, NEXT starts the next round, BOARD shows the board and QUIT closes the connection
+	private String handle(Model model, String[] command)
+	{
+		try
+		{
+			switch (command[0].toUpperCase())
+			{
+				case "NEW":
+					return this.newGame(model, Integer.parseInt(command[1]), Integer.parseInt(command[2]));
+				case "PLACE":
+					return this.place(model, Integer.parseInt(command[1]) - 1);
+				case "NEXT":
+					return this.nextRound(model);
+				case "BOARD":
+					return board(model);
+				case "QUIT":
+					return null;
+				default:
+					return "ERROR Unknown command " + command[0];
+			}
+		}
+		catch (ArrayIndexOutOfBoundsException | NumberFormatException e)
+		{
+			return "ERROR Missing or invalid number";
+		}
+	}
+
+	//Start a game at a level with a number of rounds
+	private String newGame(Model model, int level, int rounds)
+	{
+		//Determine if the level may be played by a connection
+		if (Arrays.stream(LEVELS).noneMatch(allowed -> allowed == level))
+		{
+			return "ERROR Level must be one of " + Arrays.toString(LEVELS);
+		}
+
+		if (rounds < 1)
+		{
+			return "ERROR Rounds must be at least 1";
+		}
+
+		model.newGame();
+		model.setMaxRound(rounds);
+		model.setLevel(level);
+		return "OK";
+	}
+
+	//Place the player's checker and the computer's answer, which is computed on the computer threads while this connection's thread waits
+	private String place(Model model, int column)
+	{
+		ModelState state = model.getState();
+
+		//Determine if a round is being played
+		if (state.getLevel() == 0 || state.getGameOver() || state.getRoundOver())
+		{
+			return "ERROR No round is being played";
+		}
+
+		if (column < 0 || column >= Position.WIDTH || !state.canPlay(column))
+		{
+			return "ERROR Column cannot be played";
+		}
+
+		try
+		{
+			this.computers.submit(() -> model.place(column)).get();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			return "ERROR Server is stopping";
+		}
+		catch (ExecutionException e)
+		{
+			e.printStackTrace();
+			return "ERROR Move failed";
+		}
+
+		this.moves.incrementAndGet();
+		state = model.getState(); //Snapshot published by the computer thread once both checkers were placed
+
+		//Determine if the computer answered, it does not once the player has won
+		int answer = state.getWinner().equals("Player won") ? 0 : state.getLastColumn() + 1;
+		return "MOVE " + answer + " " + result(state);
+	}
+
+	//Start the next round, or finish the game after the last round
+	private String nextRound(Model model)
+	{
+		ModelState state = model.getState();
+
+		if (state.getLevel() == 0 || state.getGameOver() || !state.getRoundOver())
+		{
+			return "ERROR The round is not over";
+		}
+
+		model.nextRound();
+		state = model.getState();
+
+		//Determine if the game is over
+		if (state.getGameOver())
+		{
+			return "GAME " + result(state) + " " + state.getPlayerPoints() + " " + state.getComputerPoints();
+		}
+
+		return "ROUND " + state.getRound();
+	}
+
+	//Describe the result of the round or game, PLAYING if it has not finished
+	private static String result(ModelState state)
+	{
+		if (!state.getRoundOver() && !state.getGameOver())
+		{
+			return "PLAYING";
+		}
+
+		switch (state.getWinner())
+		{
+			case "Player won":
+				return "PLAYER_WON";
+			case "Computer won":
+				return "COMPUTER_WON";
+			default:
+				return "DRAW";
+		}
+	}
+
+	//Write the board on one line, row by row from the top with rows separated by slashes, 0, 1 and 2 represent empty, player and computer respectively
+	private static String board(Model model)
+	{
+		ModelState state = model.getState();
+		StringBuilder text = new StringBuilder("BOARD ");
+
+		for (int i = 0; i < Position.HEIGHT; i++)
+		{
+			for (int j = 0; j < Position.WIDTH; j++)
+			{
+				text.append(state.getChecker(i, j));
+			}
+
+			text.append(i < Position.HEIGHT - 1 ? "/" : "");
+		}
+
+		return text.toString();
+	}
+
+	//Accessor methods to get values of instance variables
+	public int getSessions()
+	{
+		return this.sessions.get();
+	}
+
+	public long getMoves()
+	{
+		return this.moves.get();
+	}
+
+	//Usage: java GameServer [port] [computer threads]
+	public static void main(String[] args) throws IOException
+	{
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+		int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+		GameServer server = new GameServer(port, threads);
+		System.out.println("Listening on port " + port + " with " + threads + " computer threads and " + (hasVirtualThreads() ? "a virtual thread for each connection" : "a platform thread for each connection, as virtual threads need Java 21"));
+		server.run();
+	}
+} //End of class
\ No newline at end of file
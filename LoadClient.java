@@ -0,0 +1,160 @@
+//LoadClient
+//Description: This program measures the game server by opening many connections at once, each placing checkers in random columns, and reports the moves played per second and how long the moves took.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+import java.io.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class LoadClient
+{
+	//Usage: java LoadClient [host] [port] [sessions] [moves per session] [computer level]
+	public static void main(String[] args) throws Exception
+	{
+		String host = args.length > 0 ? args[0] : "localhost";
+		int port = args.length > 1 ? Integer.parseInt(args[1]) : GameServer.DEFAULT_PORT;
+		int sessions = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+		int moves = args.length > 3 ? Integer.parseInt(args[3]) : 100;
+		int level = args.length > 4 ? Integer.parseInt(args[4]) : 2;
+		long[][] latencies = new long[sessions][]; //Nanoseconds each move of each session took
+		CountDownLatch connected = new CountDownLatch(sessions); //Counts the sessions ready to play
+		CountDownLatch start = new CountDownLatch(1); //Lets every session start playing at once
+		ExecutorService threads = GameServer.newThreadPerTaskExecutor("Load");
+		List<Future<?>> tasks = new ArrayList<Future<?>>();
+
+		for (int i = 0; i < sessions; i++)
+		{
+			int session = i;
+			tasks.add(threads.submit(() ->
+			{
+				latencies[session] = play(host, port, level, moves, connected, start);
+				return null;
+			}));
+		}
+
+		connected.await();
+		long begin = System.nanoTime();
+		start.countDown();
+		int failed = 0;
+
+		for (int i = 0; i < tasks.size(); i++)
+		{
+			try
+			{
+				tasks.get(i).get();
+			}
+			catch (ExecutionException e)
+			{
+				failed++;
+			}
+		}
+
+		double seconds = (System.nanoTime() - begin) / 1e9;
+		threads.shutdown();
+
+		//Gather the latencies of every move to find the percentiles
+		long[] all = Arrays.stream(latencies).filter(Objects::nonNull).flatMapToLong(Arrays::stream).sorted().toArray();
+
+		System.out.println(sessions + " sessions at level " + level + " on " + (GameServer.hasVirtualThreads() ? "virtual" : "platform") + " threads, " + failed + " failed");
+		System.out.println(all.length + " moves in " + String.format("%.2f", seconds) + " seconds, " + String.format("%.0f", all.length / seconds) + " moves per second");
+
+		if (all.length > 0)
+		{
+			System.out.println("Move latency p50 " + millis(all, 0.50) + " ms, p99 " + millis(all, 0.99) + " ms, max " + millis(all, 1.0) + " ms");
+		}
+	}
+
+	//Play a number of moves in random columns over one connection, starting new rounds and games as they finish, return the nanoseconds each move took
+	private static long[] play(String host, int port, int level, int moves, CountDownLatch connected, CountDownLatch start) throws IOException, InterruptedException
+	{
+		long[] latencies = new long[moves];
+		int[] heights = new int[Position.WIDTH]; //Number of checkers in each column of the round being played
+		SplittableRandom random = new SplittableRandom();
+		Socket socket;
+
+		//Connect before every session starts playing, so the sessions play at the same time
+		try
+		{
+			socket = new Socket(host, port);
+		}
+		finally
+		{
+			connected.countDown();
+		}
+
+		try (Socket connection = socket;
+			BufferedReader in = new BufferedReader(new InputStreamReader(connection.getInputStream(), "US-ASCII"));
+			PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(connection.getOutputStream(), "US-ASCII"))))
+		{
+			connection.setTcpNoDelay(true);
+			expect(in.readLine(), "READY");
+			start.await();
+			expect(send(in, out, "NEW " + level + " 1000"), "OK");
+
+			for (int i = 0; i < moves; i++)
+			{
+				//Choose a random column that is not full
+				int column;
+
+				do
+				{
+					column = random.nextInt(Position.WIDTH);
+				}
+				while (heights[column] == Position.HEIGHT);
+
+				long begin = System.nanoTime();
+				String[] reply = expect(send(in, out, "PLACE " + (column + 1)), "MOVE").split(" ");
+				latencies[i] = System.nanoTime() - begin;
+				heights[column]++;
+
+				//Determine if the computer answered
+				if (!reply[1].equals("0"))
+				{
+					heights[Integer.parseInt(reply[1]) - 1]++;
+				}
+
+				//Determine if the round is over, in which case the next round or a new game is started
+				if (!reply[2].equals("PLAYING"))
+				{
+					Arrays.fill(heights, 0);
+
+					if (send(in, out, "NEXT").startsWith("GAME"))
+					{
+						expect(send(in, out, "NEW " + level + " 1000"), "OK");
+					}
+				}
+			}
+
+			send(in, out, "QUIT");
+		}
+
+		return latencies;
+	}
+
+	//Send a command and wait for the line sent back
+	private static String send(BufferedReader in, PrintWriter out, String command) throws IOException
+	{
+		out.println(command);
+		out.flush();
+		return in.readLine();
+	}
+
+	//Check that a line from the server starts with the expected word, return the line
+	private static String expect(String line, String word) throws IOException
+	{
+		if (line == null || !line.startsWith(word))
+		{
+			throw new IOException("Expected " + word + " but the server sent " + line);
+		}
+
+		return line;
+	}
+
+	//Find the milliseconds taken by the move at a fraction of the sorted latencies
+	private static String millis(long[] latencies, double fraction)
+	{
+		int index = (int) Math.min(latencies.length - 1, Math.ceil(fraction * latencies.length) - 1);
+		return String.format("%.2f", latencies[Math.max(index, 0)] / 1e6);
+	}
+} //End of class
\ No newline at end of file
@@ -1,14 +1,16 @@
 //Model
-//Description: This class creates the Model for the Connect 4 game.
+//Description: This class creates the Model for the Connect 4 game. It has no GUI of its own, so it can also run games without a window.
 //Created By: Wentan Su
-//Last Modified: Jan 22, 2023
+//Last Modified: Oct 18, 2026
 import java.util.*;
-import java.io.*;
+import java.util.concurrent.*;
 
 public class Model extends Object
 {
-	private View view;
-	private int[][] grid = new int[6][7]; //The grid which represents the game board
+	private ArrayList<ModelListener> listeners = new ArrayList<ModelListener>(); //Notified whenever the game changes, such as the View
+	private Rules rules = Rules.CLASSIC; //Size of the board and the number of checkers to connect
+	private int[][] grid = new int[Position.HEIGHT][Position.WIDTH]; //The grid which represents the game board
+	private WidePosition position = new WidePosition(Rules.CLASSIC); //Bitboards of the checkers, kept in step with the grid
 	private int[][] endPoints = new int[2][2]; //The start and end points of the four connected checkers
 	private int playerPoints;
 	private int computerPoints;
@@ -20,14 +22,39 @@ public class Model extends Object
 	private boolean roundOver;
 	private boolean gameOver;
 	private String winner;
-	private PrintWriter output; //Output to file
+	private Computer computer; //Chooses the computer's columns for the selected level
+	private long thinkingTime; //Milliseconds the level 6, 7, 11 and 12 computers may think for each move
+	private int threads; //Number of threads the level 7 and 11 computers search with
+	private ExecutorService worker; //Background thread that computes the computer's moves, null if they are computed right away
+	private Executor publisher; //Runs the code that places the computer's checker once its move is ready
+	private Future<?> task; //The computer's move that is being computed
+	private int turn; //Number of the computer's move, a result from an older move is ignored
+	private boolean thinking; //If the computer is computing its move
+	private long nodes; //Number of positions the computer searched for its last move
+	private long nodesPerSecond; //Search speed of the computer's last move
+	private boolean pondered; //If the computer's last move was found while the player was thinking
+	private GameLog log; //Writes the results of each game to its file in the background, null if no files are written
+	private GameRecord record = new GameRecord(); //Columns played in the current round
+	private int[] redoColumns = new int[Rules.CLASSIC.getArea()]; //Columns of the checkers taken back, the last one taken back is on top
+	private int redoCount; //Number of checkers that can be placed again
+	private Computer hintComputer; //Solves positions to give the player hints, created when the first hint is asked for
+	private Future<?> hintTask; //The hint that is being computed
+	private int hintTurn; //Number of the hint, a hint for an older position is ignored
+	private String hint; //Hint for the player's next move, null if none has been given
+	private volatile ModelState state; //Snapshot of the game for readers, replaced as a whole each time the game changes
 
 	public Model()
+	{
+		this(true);
+	}
+
+	//Create a Model which only writes files if record is true, use false to run games without side effects
+	public Model(boolean record)
 	{
 		//Initialize the grid, 0, 1 and 2 represent empty, player and computer respectively
-		for (int i = 0; i < 6; i++)
+		for (int i = 0; i < this.grid.length; i++)
 		{
-			for (int j = 0; j < 7; j++)
+			for (int j = 0; j < this.grid[i].length; j++)
 			{
 				this.grid[i][j] = 0;
 			}
@@ -48,32 +75,82 @@ public class Model extends Object
 		this.roundOver = false;
 		this.gameOver = false;
 		this.winner = "None";
+		this.thinkingTime = 1000;
+		this.threads = Runtime.getRuntime().availableProcessors();
+		this.computer = new Computer(0);
+		this.turn = 0;
+		this.thinking = false;
+
+		//Determine if results are written to files
+		if (record)
+		{
+			this.log = new GameLog();
+		}
+
 		this.writeFile();
+		this.state = new ModelState(this, this.grid, this.endPoints);
 	}
 
-	//Set the instance of the View
-	public void setGUI(View view)
+	//Add a listener to be notified whenever the game changes
+	public void addListener(ModelListener listener)
 	{
-		this.view = view;
+		this.listeners.add(listener);
 	}
 
-	//Call the update method in View
+	//Compute the computer's moves on a background thread and place them through the publisher, such as SwingUtilities::invokeLater for the GUI
+	public void runInBackground(Executor publisher)
+	{
+		this.publisher = publisher;
+
+		//Use a daemon thread so the program can still exit
+		this.worker = Executors.newSingleThreadExecutor(runnable ->
+		{
+			Thread thread = new Thread(runnable, "Computer");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	//Publish a new snapshot of the game and call the update method of each listener
 	private void updateView()
 	{
-		this.view.update();
+		this.state = new ModelState(this, this.grid, this.endPoints);
+
+		for (int i = 0; i < this.listeners.size(); i++)
+		{
+			this.listeners.get(i).update();
+		}
 	}
 
 	//Place a checker for the player
 	public void place(int column)
 	{
-		this.grid[this.firstVacantIndex(column)][column] = 1;
+		//Determine if the column is full or the computer is still thinking
+		if (!this.position.canPlay(column) || this.thinking)
+		{
+			return;
+		}
+
+		this.cancelHint();
+		this.redoCount = 0; //A new move replaces the moves that were taken back
+		this.drop(column, 1);
 
 		//Determine if the player has connected four checkers
-		if (this.isRoundOver(column))
+		if (this.isRoundOver(1))
 		{
 			this.winner = "Player won";
 			this.playerPoints++;
 			this.roundOver = true;
+			this.computer.stopPondering();
+			this.writeRound();
+		}
+		//Determine if the player filled the last hole, which can happen on a board with an odd number of holes and is a draw
+		else if (this.position.isFull())
+		{
+			this.winner = "Draw";
+			this.playerPoints++;
+			this.computerPoints++;
+			this.roundOver = true;
 			this.writeRound();
 		}
 		else
@@ -85,126 +162,54 @@ public class Model extends Object
 		this.updateView();
 	}
 
-	//Place a checker for the computer depending on its level
+	//Compute the computer's move, in the background if a publisher has been set, in which case the move is placed through the publisher once it is ready
 	private void computerPlace()
 	{
-		ArrayList<Integer> vacantColumns = new ArrayList<Integer>(); //List of columns that computer can place a checker in
-		boolean connected = false; //If the computer has connected and won the game
-		
-		//Check each column
-		for (int i = 0; i < 7; i++)
-		{
-			//Determine if the column is not full
-			if (this.grid[0][i] == 0)
-			{
-				vacantColumns.add(i);
-			}
-		}
-		
-		int number = 0; //Random number for level 1 computer
-		
-		//Determine computer level
-		if (this.level == 1)
+		Computer computer = this.computer;
+		int turn = ++this.turn;
+
+		//Determine if the move is computed right away
+		if (this.worker == null)
 		{
-			number = (int) (Math.random() * 3); //Generate a random integer from 0 to 2
+			this.finishComputerPlace(turn, computer.chooseColumn(this.position, 2));
+			return;
 		}
-		
-		//Determine if the random number is 0, which has a 1/3 chance for the level 1 computer
-		if (number == 0)
+
+		WidePosition position = new WidePosition(this.position); //Copy of the board for the computer to search
+		this.thinking = true;
+
+		this.task = this.worker.submit(() ->
 		{
-			connected = this.connect();
-			
-			//Determine if the computer can connect four
-			if (!connected)
-			{
-				//Determine if the computer can block the player from connecting four
-				if (!this.block())
-				{
-					//Determine computer level
-					if (this.level != 3)
-					{
-						//Randomly place a checker
-						int index = (int) (Math.random() * vacantColumns.size());
-						this.grid[this.firstVacantIndex(vacantColumns.get(index))][vacantColumns.get(index)] = 2;
-					}
-					else
-					{
-						vacantColumns.clear();
-						
-						//Find all columns that have at least two empty holes
-						for (int i = 0; i < 7; i++)
-						{
-							if (this.grid[1][i] == 0)
-							{
-								vacantColumns.add(i);
-							}
-						}
-						
-						//Check through all available columns
-						for (int i = 0; i < vacantColumns.size(); i++)
-						{
-							//Suppose the computer places a checker at the current column, determine if the player can win by placing their checker in the same column for their turn
-							this.grid[this.firstVacantIndex(vacantColumns.get(i)) - 1][vacantColumns.get(i)] = 1;
-							boolean playerWins = this.isRoundOver(vacantColumns.get(i));
-							
-							//Suppose the computer places a checker at the current column, determine if the player can block the computer from winning for their turn
-							this.grid[this.firstVacantIndex(vacantColumns.get(i)) + 1][vacantColumns.get(i)] = 2;
-							boolean computerWins = this.isRoundOver(vacantColumns.get(i));
-							
-							this.grid[this.firstVacantIndex(vacantColumns.get(i)) + 1][vacantColumns.get(i)] = 0; //Reset the hole in the current column
-							
-							//Determine if placing a checker at the current column gives the player a chance to win or block, in this way the computer thinks a move ahead considering the player's turn
-							if (playerWins || computerWins)
-							{
-								vacantColumns.remove(i); //Remove the column from the list so the computer will not consider this column for placing its checker
-							}
-						}
-						
-						//Add all columns that have only one empty hole to the list of available columns
-						for (int i = 0; i < 7; i++)
-						{
-							if (this.grid[0][i] == 0 && this.grid[1][i] != 0)
-							{
-								vacantColumns.add(i);
-							}
-						}
-						
-						//Randomly place a checker in one of the columns that remain in the list
-						int index = (int) (Math.random() * vacantColumns.size());
-						this.grid[this.firstVacantIndex(vacantColumns.get(index))][vacantColumns.get(index)] = 2;
-					}
-				}
-			}
-		}
-		else
+			int column = computer.chooseColumn(position, 2);
+			this.publisher.execute(() -> this.finishComputerPlace(turn, column));
+		});
+	}
+
+	//Place the checker for the computer once its move has been computed
+	private void finishComputerPlace(int turn, int column)
+	{
+		//Determine if the move was cancelled by a new game or the end of the game
+		if (turn != this.turn)
 		{
-			//Randomly place a checker in an available column
-			int index = (int) (Math.random() * vacantColumns.size());
-			this.grid[this.firstVacantIndex(vacantColumns.get(index))][vacantColumns.get(index)] = 2;
-			connected = this.isRoundOver(vacantColumns.get(index)); //Determine if the computer has won
-			
-			if (connected)
-			{
-				this.winner = "Computer won";
-				this.computerPoints++;
-				this.roundOver = true;
-				this.writeRound();
-			}
+			return;
 		}
-		
-		vacantColumns.clear();
-		
-		//Check again for the columns that are not full
-		for (int i = 0; i < 7; i++)
+
+		this.thinking = false;
+		this.nodes = this.computer.getNodes();
+		this.nodesPerSecond = this.computer.getNodesPerSecond();
+		this.pondered = this.computer.isPondered();
+		this.drop(column, 2);
+
+		//Determine if the computer has won
+		if (this.isRoundOver(2))
 		{
-			if (this.grid[0][i] == 0)
-			{
-				vacantColumns.add(i);
-			}
+			this.winner = "Computer won";
+			this.computerPoints++;
+			this.roundOver = true;
+			this.writeRound();
 		}
-		
-		//Determine if none of the columns are available, which indicates a draw if the computer hasn't won by placing its checker at the last available hole
-		if (vacantColumns.size() == 0 && !connected)
+		//Determine if none of the columns are available, which indicates a draw
+		else if (this.position.isFull())
 		{
 			this.winner = "Draw";
 			this.playerPoints++;
@@ -212,383 +217,218 @@ public class Model extends Object
 			this.roundOver = true;
 			this.writeRound();
 		}
-	}
 
-	//Block the player from connecting four, return true if the computer is able to block
-	private boolean block()
-	{
-		//Check through every column
-		for (int i = 0; i < 7; i++)
+		//Determine if the move was computed in the background, otherwise place() updates the listeners
+		if (this.worker != null)
 		{
-			//Determine if the column is full
-			if (this.firstVacantIndex(i) == -1)
-			{
-				continue;
-			}
+			this.updateView();
+		}
+	}
 
-			this.grid[this.firstVacantIndex(i)][i] = 1; //Place a checker for the player in the current column
+	//Stop computing the computer's move, its result will be ignored
+	private void cancelComputerPlace()
+	{
+		this.turn++;
+		this.thinking = false;
 
-			//Determine if the player wins
-			if (this.isRoundOver(i))
-			{
-				this.grid[this.firstVacantIndex(i) + 1][i] = 2; //Place a checker for the computer instead to prevent the player from connecting
-				return true;
-			}
-			else
-			{
-				this.grid[this.firstVacantIndex(i) + 1][i] = 0; //Reset the hole
-			}
+		if (this.task != null)
+		{
+			this.task.cancel(true); //Interrupt the search, which then does not start pondering
+			this.task = null;
 		}
 
-		return false;
+		this.computer.stopPondering(); //Stop pondering the computer started before the move was cancelled
 	}
 
-	//Connect four of the computer's checkers to win the game, return true if the computer is able to connect
-	private boolean connect()
+	//Find the best column for the player, in the background if a publisher has been set
+	public void hint()
 	{
-		//Check through every column
-		for (int i = 0; i < 7; i++)
+		//Determine if the player is to move in a round that is still being played
+		if (this.level == 0 || this.maxRound == 0 || this.roundOver || this.gameOver || this.thinking)
 		{
-			//Determine if the column is full
-			if (this.firstVacantIndex(i) == -1)
-			{
-				continue;
-			}
+			return;
+		}
 
-			this.grid[this.firstVacantIndex(i)][i] = 2; //Place a checker for the computer at the current column
+		this.cancelHint();
 
-			//Determine if the computer has won
-			if (this.isRoundOver(i))
-			{
-				this.winner = "Computer won";
-				this.computerPoints++;
-				this.roundOver = true;
-				this.writeRound();
-				return true;
-			}
-			else
-			{
-				this.grid[this.firstVacantIndex(i) + 1][i] = 0; //Reset the hole
-			}
+		//Use the level 10 computer, which solves the position when it can and searches ahead when it cannot
+		if (this.hintComputer == null)
+		{
+			this.hintComputer = new Computer(10);
 		}
 
-		return false;
-	}
+		Computer computer = this.hintComputer;
+		WidePosition position = new WidePosition(this.position); //Copy of the board for the computer to search
+		int turn = this.hintTurn;
 
-	//Determine if the round is over, which is when either the player or computer has connected four of their checkers horizontally, vertically, or diagonally
-	private boolean isRoundOver(int column)
-	{
-		int row = this.firstVacantIndex(column) + 1; //Index of the row of the checker that has just been placed
-
-		//Check vertically
-		//Determine if the checker is placed above row 2, which means it's possible to connect four vertically
-		if (row <= 2)
+		//Determine if the hint is computed right away
+		if (this.worker == null)
 		{
-			//Check the three rows below
-			for (int i = 1; i <= 3; i++)
-			{
-				//Determine if the hole has the same checker as the one that has just been placed
-				if (this.grid[row][column] != this.grid[row + i][column])
-				{
-					break;
-				}
-
-				//Determine if all three holes that have been checked are the same
-				if (i == 3)
-				{
-					//Set the start and end points of the four connected checkers
-					this.endPoints[0][0] = row;
-					this.endPoints[0][1] = column;
-					this.endPoints[1][0] = row + i;
-					this.endPoints[1][1] = column;
-					return true;
-				}
-			}
+			this.finishHint(turn, computer.chooseColumn(position, 1), computer.isSolved(), computer.getScore(), position.getMoves());
+			return;
 		}
 
-		//Check horizontally
-		int index = 1;
-		int count = 1; //Number of consecutive checkers that are the same
-		this.endPoints[0][0] = row;
-		this.endPoints[0][1] = column;
+		this.hint = "Finding a hint...";
+		this.updateView();
 
-		//Check to the left if the column is not 0
-		if (column != 0)
+		this.hintTask = this.worker.submit(() ->
 		{
-			while (true)
-			{
-				//Determine if the next hole is the same as the checker that has just been placed
-				if (this.grid[row][column] == this.grid[row][column - index])
-				{
-					//Set the start points to the left most hole which has the same checker
-					this.endPoints[0][0] = row;
-					this.endPoints[0][1] = column - index;
-					count++;
-					
-					//Determine if four consecutive checkers are found
-					if (count == 4)
-					{
-						//Set the end points to the checker that has just been placed
-						this.endPoints[1][0] = row;
-						this.endPoints[1][1] = column;
-
-						return true;
-					}
-				}
-				else
-				{
-					break;
-				}
-
-				index++;
-
-				//Determine if end of grid is reached
-				if (index > column)
-				{
-					break;
-				}
-			}
+			int column = computer.chooseColumn(position, 1);
+			boolean solved = computer.isSolved();
+			int score = computer.getScore();
+			this.publisher.execute(() -> this.finishHint(turn, column, solved, score, position.getMoves()));
+		});
+	}
+
+	//Describe the hint once its column has been found
+	private void finishHint(int turn, int column, boolean solved, int score, int moves)
+	{
+		//Determine if the player has moved or the round has ended since the hint was asked for
+		if (turn != this.hintTurn)
+		{
+			return;
 		}
 
-		index = 1;
+		int checkers = (Solver.getDistance(score, moves) + 1) / 2; //Checkers the winner places until the round ends, counting the last one
 
-		//Check to the right if the column is not 6
-		if (column != 6)
+		//Determine if the position was solved, in which case the hint tells the player how the round ends with perfect play
+		if (!solved)
 		{
-			while (true)
-			{
-				//Determine if the next hole is the same as the checker that has just been placed
-				if (this.grid[row][column] == this.grid[row][column + index])
-				{
-					count++;
-
-					//Determine if four consecutive checkers are found
-					if (count == 4)
-					{
-						//Set the end points to the right most checker of the consecutive four checkers
-						this.endPoints[1][0] = row;
-						this.endPoints[1][1] = column + index;
-						return true;
-					}
-				}
-				else
-				{
-					break;
-				}
-
-				index++;
-
-				//Determine if end of grid is reached
-				if (column + index > 6)
-				{
-					break;
-				}
-			}
+			this.hint = "Column " + (column + 1) + " looks best";
 		}
-
-		//Check the diagonal from top left to bottom right
-		if (this.checkDiagonal(row, column, 1))
+		else if (score > 0)
 		{
-			return true;
+			this.hint = "Column " + (column + 1) + " wins within " + checkers + " of your checkers";
 		}
-		
-		//Check the diagonal from bottom left to top right
-		return this.checkDiagonal(row, column, 2);
+		else if (score < 0)
+		{
+			this.hint = "Column " + (column + 1) + " holds out longest, the computer can win within " + checkers + " of its checkers";
+		}
+		else
+		{
+			this.hint = "Column " + (column + 1) + " leads to a draw";
+		}
+
+		this.updateView();
 	}
-	
-	//Check the two diagonals passing through a hole on the grid, return true if four consecutive checkers are found
-	private boolean checkDiagonal(int row, int column, int direction)
+
+	//Stop computing the hint and remove the hint given
+	private void cancelHint()
 	{
-		//Indexes for checking through the grid
-		int index1 = 0;
-		int index2 = 0;
-		
-		//Restrictions to the row and column for which each check algorithm is applicable
-		int restriction1 = 0;
-		int restriction2 = 0;
-		int count = 1; //Number of consecutive checkers found
-		
-		//Determine the direction to check in, 1 means top left to bottom right, 2 means bottom left to top right
-		switch (direction)
-		{
-			case 1:
-				index1 = -1;
-				index2 = -1;
-				restriction1 = 0;
-				restriction2 = 0;
-				break;
-			case 2:
-				index1 = 1;
-				index2 = -1;
-				restriction1 = 5;
-				restriction2 = 0;
-				break;
-		}
-		
-		//Increment of the indexes
-		int increment1 = index1;
-		int increment2 = index2;
+		this.hintTurn++;
+		this.hint = null;
 
-		//Determine if the location of the hole is within the restriction
-		if (row != restriction1 && column != restriction2)
+		if (this.hintTask != null)
 		{
-			while (true)
-			{
-				//Determine if the next hole is the same
-				if (this.grid[row][column] == this.grid[row + index1][column + index2])
-				{
-					//Set the start points
-					this.endPoints[0][0] = row + index1;
-					this.endPoints[0][1] = column + index2;
-					count++;
-
-					//Determine if four consecutive checkers are found
-					if (count == 4)
-					{
-						//Set the end points
-						this.endPoints[1][0] = row;
-						this.endPoints[1][1] = column;
-
-						return true;
-					}
-				}
-				else
-				{ 
-					break;
-				}
-
-				//Update the indexes
-				index1 += increment1;
-				index2 += increment2;
-
-				//Determine if the next hole being checked is out of bounds
-				if (this.hasReachedEnd(row + index1, column + index2))
-				{
-					break;
-				}
-			}
+			this.hintTask.cancel(true); //Interrupt the solve
+			this.hintTask = null;
 		}
+	}
 
-		//Update the variables for the next check depending on the direction
-		switch (direction)
+	//Take back the player's last move and the computer's reply
+	public void undo()
+	{
+		//Determine if the player is to move in a round that is still being played and has placed a checker
+		if (!this.canUndo())
 		{
-			case 1:
-				index1 = 1;
-				index2 = 1;
-				restriction1 = 5;
-				restriction2 = 6;
-				break;
-			case 2:
-				index1 = -1;
-				index2 = 1;
-				restriction1 = 0;
-				restriction2 = 6;
-				break;
+			return;
 		}
-		
-		increment1 = index1;
-		increment2 = index2;
 
-		//Determine if the location of the hole is within the restriction
-		if (row != restriction1 && column != restriction2)
+		this.cancelHint();
+		this.computer.stopPondering(); //The replies being pondered no longer follow the board
+
+		//Take back checkers until it is the player's turn again, the player places the first checker
+		do
 		{
-			while (true)
+			int column = this.position.undo();
+			this.grid[this.position.getRow(column)][column] = 0;
+
+			//Determine if the round is recorded, only rounds on the classic board fit in a record
+			if (this.rules.isClassic())
 			{
-				//Determine if the next hole is the same
-				if (this.grid[row][column] == this.grid[row + index1][column + index2])
-				{
-					count++;
-
-					//Determine if four consecutive checkers are found
-					if (count == 4)
-					{
-						//Set the end points
-						this.endPoints[1][0] = row + index1;
-						this.endPoints[1][1] = column + index2;
-
-						return true;
-					}
-				}
-				else
-				{
-					return false;
-				}
-
-				//Update the indexes
-				index1 += increment1;
-				index2 += increment2;
-
-				//Determine if the next hole being checked is out of bounds
-				if (this.hasReachedEnd(row + index1, column + index2))
-				{
-					return false;
-				}
+				this.record.removeMove();
 			}
+
+			this.redoColumns[this.redoCount++] = column;
 		}
-		
-		return false;
+		while (this.position.getMoves() % 2 != 0);
+
+		this.updateView();
 	}
-	
-	//Determine if a set of index on the grid is out of bounds
-	private boolean hasReachedEnd(int row, int column)
+
+	//Place the checkers taken back by the last undo again
+	public void redo()
 	{
-		//Determine if the row is out of bounds
-		if (row < 0 || row > 5)
+		if (!this.canRedo())
 		{
-			return true;
+			return;
 		}
-		
-		//Determine if the column is out of bounds
-		if (column < 0 || column > 6)
+
+		this.cancelHint();
+
+		//Place checkers until it is the player's turn again, none of them can end the round since the round was still being played when they were taken back
+		do
 		{
-			return true;
+			this.drop(this.redoColumns[--this.redoCount], this.position.getMoves() % 2 + 1);
 		}
-		
-		return false;
+		while (this.position.getMoves() % 2 != 0 && this.redoCount > 0);
+
+		this.updateView();
 	}
 
-	//Find the index of the first empty hole of the column
-	private int firstVacantIndex(int column)
+	//Determine if the player can take back a move
+	public boolean canUndo()
 	{
-		//Determine if the column is full
-		if (this.grid[0][column] != 0)
-		{
-			return -1;
-		}
+		return this.level != 0 && this.maxRound != 0 && this.position.getMoves() > 0 && !(this.roundOver || this.gameOver || this.thinking);
+	}
+
+	//Determine if the player can place checkers taken back again
+	public boolean canRedo()
+	{
+		return this.level != 0 && this.maxRound != 0 && this.redoCount > 0 && !(this.roundOver || this.gameOver || this.thinking);
+	}
 
-		int index = 5;
+	//Place a checker in a column on both the bitboards and the grid
+	private void drop(int column, int checker)
+	{
+		int row = this.position.drop(column, checker);
+		this.grid[row][column] = checker;
 
-		//Check from the first row
-		for (int i = 0; i < 6; i++)
+		if (this.rules.isClassic())
 		{
-			//Determine if the row is occupied
-			if (this.grid[i][column] != 0)
-			{
-				index = i - 1;
-				break;
-			}
+			this.record.addMove(column);
 		}
+	}
 
-		return index;
+	//Determine if the round is over, which is when the checker has connected four horizontally, vertically, or diagonally, and record the start and end points of the line
+	private boolean isRoundOver(int checker)
+	{
+		return this.position.findEndPoints(checker, this.endPoints);
 	}
 
 	//Start a new game
 	public void newGame()
 	{
+		this.cancelComputerPlace();
+		this.cancelHint();
+		this.redoCount = 0;
 		this.newGame = true;
 		this.gameNum++;
 		this.roundOver = false;
 		this.gameOver = false;
 
 		//Initialize board
-		for (int i = 0; i < 6; i++)
+		for (int i = 0; i < this.grid.length; i++)
 		{
-			for (int j = 0; j < 7; j++)
+			for (int j = 0; j < this.grid[i].length; j++)
 			{
 				this.grid[i][j] = 0;
 			}
 		}
 
+		this.position.clear();
+		this.record.reset();
+
 		//Initialize attributes
 		this.endPoints[0][0] = 0;
 		this.endPoints[0][1] = 0;
@@ -599,6 +439,9 @@ public class Model extends Object
 		this.round = 1;
 		this.maxRound = 0;
 		this.level = 0;
+		this.nodes = 0;
+		this.nodesPerSecond = 0;
+		this.pondered = false;
 		this.winner = "None";
 		this.writeFile(); //Open a new file
 		this.updateView();
@@ -607,13 +450,20 @@ public class Model extends Object
 	//Exit the program
 	public void exit()
 	{
-		this.output.close();
+		//Write any results that are still waiting
+		if (this.log != null)
+		{
+			this.log.close();
+		}
+
 		System.exit(0);
 	}
 
 	//End current game
 	public void endGame()
 	{
+		this.cancelComputerPlace();
+		this.cancelHint();
 		this.gameOver = true;
 		this.determineWinner();
 		this.updateView();
@@ -623,18 +473,24 @@ public class Model extends Object
 	//Continue to next round
 	public void nextRound()
 	{
+		this.cancelHint();
+		this.computer.stopPondering();
+		this.redoCount = 0;
 		this.round++;
 		this.roundOver = false;
 
 		//Initialize the board
-		for (int i = 0; i < 6; i++)
+		for (int i = 0; i < this.grid.length; i++)
 		{
-			for (int j = 0; j < 7; j++)
+			for (int j = 0; j < this.grid[i].length; j++)
 			{
 				this.grid[i][j] = 0;
 			}
 		}
 
+		this.position.clear();
+		this.record.reset();
+
 		//Initialize end points
 		this.endPoints[0][0] = 0;
 		this.endPoints[0][1] = 0;
@@ -668,37 +524,49 @@ public class Model extends Object
 		}
 	}
 	
-	//Open a new file
+	//Start the file of a new game
 	private void writeFile()
 	{
-		String file = "Game " + this.gameNum + ".txt"; //File name
-		
-		try
-		{
-			this.output = new PrintWriter(file);
-		}
-		catch (FileNotFoundException e)
+		if (this.log == null)
 		{
-			e.printStackTrace();
+			return;
 		}
-		
-		this.output.println("Game " + this.gameNum + " Results"); //Title
+
+		this.log.write(this.gameNum, "Game " + this.gameNum + " Results"); //Title
 	}
 	
-	//Output current round's results
+	//Output current round's results, and its moves to the binary file
 	private void writeRound()
 	{
-		this.output.println("Round " + this.round + " - " + this.winner);
+		if (this.log == null)
+		{
+			return;
+		}
+
+		this.log.write(this.gameNum, "Round " + this.round + " - " + this.winner);
+
+		//Determine if the round can be recorded, the binary records and the opening book built from them only hold rounds on the classic board
+		if (!this.rules.isClassic())
+		{
+			return;
+		}
+
+		this.record.finish(this.level, this.winner.equals("Draw") ? 0 : this.winner.equals("Player won") ? 1 : 2, System.currentTimeMillis());
+		this.log.record(this.record);
 	}
 	
-	//Output the overall game results to file
+	//Output the overall game results to file, which closes the file
 	private void writeResult()
 	{
-		this.output.println("\nOverall Scores");
-		this.output.println("Player - " + this.playerPoints);
-		this.output.println("Computer - " + this.computerPoints);
-		this.output.println("Overall Game Result - " + this.winner);
-		this.output.close();
+		if (this.log == null)
+		{
+			return;
+		}
+
+		this.log.write(this.gameNum, "\nOverall Scores");
+		this.log.write(this.gameNum, "Player - " + this.playerPoints);
+		this.log.write(this.gameNum, "Computer - " + this.computerPoints);
+		this.log.finish(this.gameNum, "Overall Game Result - " + this.winner);
 	}
 
 	//Accessor methods to set or get values of instance variables
@@ -710,21 +578,81 @@ public class Model extends Object
 		this.updateView();
 	}
 	
+	//Set the size of the board and the number of checkers to connect, which can only change before a level is chosen and a checker is placed
+	public void setRules(Rules rules)
+	{
+		if (this.level != 0 || this.position.getMoves() > 0 || this.rules.equals(rules))
+		{
+			return;
+		}
+
+		this.rules = rules;
+		this.grid = new int[rules.getHeight()][rules.getWidth()];
+		this.position = new WidePosition(rules);
+		this.redoColumns = new int[rules.getArea()];
+		this.redoCount = 0;
+		this.updateView();
+	}
+
 	//Set computer level
 	public void setLevel(int level)
 	{
 		this.level = level;
+
+		//Determine if the computer of a different level is needed, the same computer is reused between games
+		if (this.computer.getLevel() != level)
+		{
+			Computer computer = this.computer;
+
+			//Determine if the old computer may still be finishing a cancelled move, in which case it is closed on the worker thread once the move is done
+			if (this.worker != null)
+			{
+				this.worker.execute(computer::close);
+			}
+			else
+			{
+				computer.close();
+			}
+
+			this.computer = new Computer(level);
+		}
+
+		this.computer.setThinkingTime(this.thinkingTime);
+		this.computer.setThreads(this.threads);
 		this.updateView();
 	}
 	
-	public int[][] getGrid()
+	//Set the milliseconds the level 6, 7, 11 and 12 computers may think for each move
+	public void setThinkingTime(long thinkingTime)
 	{
-		return this.grid;
+		this.thinkingTime = thinkingTime;
+
+		if (this.computer != null)
+		{
+			this.computer.setThinkingTime(thinkingTime);
+		}
 	}
 
-	public int[][] getEndPoints()
+	//Set the number of threads the level 7 and 11 computers search with
+	public void setThreads(int threads)
 	{
-		return this.endPoints;
+		this.threads = threads;
+
+		if (this.computer != null)
+		{
+			this.computer.setThreads(threads);
+		}
+	}
+
+	//Get the latest snapshot of the game, which never changes, so it can be read on any thread
+	public ModelState getState()
+	{
+		return this.state;
+	}
+
+	public Rules getRules()
+	{
+		return this.rules;
 	}
 
 	public int getPlayerPoints()
@@ -752,6 +680,26 @@ public class Model extends Object
 		return this.maxRound;
 	}
 
+	public GameLog getLog()
+	{
+		return this.log;
+	}
+
+	public long getNodes()
+	{
+		return this.nodes;
+	}
+
+	public long getNodesPerSecond()
+	{
+		return this.nodesPerSecond;
+	}
+
+	public boolean getPondered()
+	{
+		return this.pondered;
+	}
+
 	public boolean getNewGame()
 	{
 		return this.newGame;
@@ -767,8 +715,24 @@ public class Model extends Object
 		return this.gameOver;
 	}
 
+	public boolean getThinking()
+	{
+		return this.thinking;
+	}
+
+	public String getHint()
+	{
+		return this.hint;
+	}
+
 	public String getWinner()
 	{
 		return this.winner;
 	}
+
+	//Get the column of the last checker placed in the round, -1 if none has been placed
+	public int getLastColumn()
+	{
+		return this.position.getMoves() == 0 ? -1 : this.position.getMove(this.position.getMoves() - 1);
+	}
 } //End of class
\ No newline at end of file
@@ -0,0 +1,10 @@
+//ModelListener
+//Description: This interface is notified whenever the state of the Model changes.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+
+public interface ModelListener
+{
+	//Called after every change to the game, such as a checker being placed or a new round starting
+	public void update();
+} //End of class
@@ -0,0 +1,178 @@
+//ModelState
+//Description: This class is a snapshot of the game the Model shows, taken each time the game changes. It is never changed once it has been taken, so the View, the Board and other readers on any thread see one consistent state without locks or copying.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+
+public final class ModelState
+{
+	private final Rules rules; //Size of the board and the number of checkers to connect
+	private final int[][] grid; //Copy of the grid, 0, 1 and 2 represent empty, player and computer respectively
+	private final int[][] endPoints; //Copy of the start and end points of the connected checkers
+	private final int playerPoints;
+	private final int computerPoints;
+	private final int round;
+	private final int maxRound;
+	private final int level;
+	private final boolean newGame;
+	private final boolean roundOver;
+	private final boolean gameOver;
+	private final boolean thinking;
+	private final boolean canUndo;
+	private final boolean canRedo;
+	private final String winner;
+	private final String hint;
+	private final long nodes;
+	private final long nodesPerSecond;
+	private final boolean pondered;
+	private final int lastColumn;
+
+	//Take a snapshot of the Model, the grid and end points are copied since the Model keeps changing them
+	public ModelState(Model model, int[][] grid, int[][] endPoints)
+	{
+		this.grid = new int[grid.length][];
+		this.endPoints = new int[endPoints.length][];
+
+		for (int i = 0; i < grid.length; i++)
+		{
+			this.grid[i] = grid[i].clone();
+		}
+
+		for (int i = 0; i < endPoints.length; i++)
+		{
+			this.endPoints[i] = endPoints[i].clone();
+		}
+
+		this.rules = model.getRules();
+		this.playerPoints = model.getPlayerPoints();
+		this.computerPoints = model.getComputerPoints();
+		this.round = model.getRound();
+		this.maxRound = model.getMaxRound();
+		this.level = model.getLevel();
+		this.newGame = model.getNewGame();
+		this.roundOver = model.getRoundOver();
+		this.gameOver = model.getGameOver();
+		this.thinking = model.getThinking();
+		this.canUndo = model.canUndo();
+		this.canRedo = model.canRedo();
+		this.winner = model.getWinner();
+		this.hint = model.getHint();
+		this.nodes = model.getNodes();
+		this.nodesPerSecond = model.getNodesPerSecond();
+		this.pondered = model.getPondered();
+		this.lastColumn = model.getLastColumn();
+	}
+
+	//Get the checker in a hole, 0 if it is empty, the top row is 0
+	public int getChecker(int row, int column)
+	{
+		return this.grid[row][column];
+	}
+
+	//Determine if a column has room for another checker
+	public boolean canPlay(int column)
+	{
+		return this.grid[0][column] == 0;
+	}
+
+	//Get the row of the start, 0, or end, 1, of the four connected checkers
+	public int getEndRow(int end)
+	{
+		return this.endPoints[end][0];
+	}
+
+	public int getEndColumn(int end)
+	{
+		return this.endPoints[end][1];
+	}
+
+	//Accessor methods to get values of instance variables
+	public Rules getRules()
+	{
+		return this.rules;
+	}
+
+	public int getPlayerPoints()
+	{
+		return this.playerPoints;
+	}
+
+	public int getComputerPoints()
+	{
+		return this.computerPoints;
+	}
+
+	public int getRound()
+	{
+		return this.round;
+	}
+
+	public int getMaxRound()
+	{
+		return this.maxRound;
+	}
+
+	public int getLevel()
+	{
+		return this.level;
+	}
+
+	public boolean getNewGame()
+	{
+		return this.newGame;
+	}
+
+	public boolean getRoundOver()
+	{
+		return this.roundOver;
+	}
+
+	public boolean getGameOver()
+	{
+		return this.gameOver;
+	}
+
+	public boolean getThinking()
+	{
+		return this.thinking;
+	}
+
+	public boolean canUndo()
+	{
+		return this.canUndo;
+	}
+
+	public boolean canRedo()
+	{
+		return this.canRedo;
+	}
+
+	public String getWinner()
+	{
+		return this.winner;
+	}
+
+	public String getHint()
+	{
+		return this.hint;
+	}
+
+	public long getNodes()
+	{
+		return this.nodes;
+	}
+
+	public long getNodesPerSecond()
+	{
+		return this.nodesPerSecond;
+	}
+
+	public boolean getPondered()
+	{
+		return this.pondered;
+	}
+
+	public int getLastColumn()
+	{
+		return this.lastColumn;
+	}
+} //End of class
\ No newline at end of file
@@ -0,0 +1,143 @@
+//MoveCache
+//Description: This class remembers the column the computer chose in each position, so a position that comes up again does not need to be searched again.
+//A symmetric cache stores a position and its mirror image under one canonical key, so it needs half the entries of a cache that stores each orientation.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+import java.util.*;
+
+public class MoveCache
+{
+	private long[] keys; //Key of the position in each entry, 0 if the entry is empty
+	private byte[] columns; //Column chosen in each entry, in the orientation of its key
+	private int mask; //Number of entries minus one, used to find the entry of a key
+	private boolean symmetric; //If positions are stored under their canonical keys
+	private int size; //Number of entries in use
+	private long hits;
+	private long misses;
+
+	public MoveCache(int entries, boolean symmetric)
+	{
+		int capacity = Integer.highestOneBit(Math.max(entries, 1)); //Use a power of two so the entry is found with a mask
+		this.keys = new long[capacity];
+		this.columns = new byte[capacity];
+		this.mask = capacity - 1;
+		this.symmetric = symmetric;
+	}
+
+	//Find the column stored for a position, return -1 if there is none
+	public int get(Position position)
+	{
+		long key = this.symmetric ? position.getCanonicalKey() : position.getKey();
+		int index = this.indexOf(key);
+
+		if (this.keys[index] != key)
+		{
+			this.misses++;
+			return -1;
+		}
+
+		this.hits++;
+		return this.symmetric ? position.toCanonical(this.columns[index]) : this.columns[index];
+	}
+
+	//Store the column chosen for a position, replacing whatever was in its entry
+	public void put(Position position, int column)
+	{
+		long key = this.symmetric ? position.getCanonicalKey() : position.getKey();
+		int index = this.indexOf(key);
+
+		if (this.keys[index] == 0)
+		{
+			this.size++;
+		}
+
+		this.keys[index] = key;
+		this.columns[index] = (byte) (this.symmetric ? position.toCanonical(column) : column);
+	}
+
+	//Remove every entry
+	public void clear()
+	{
+		Arrays.fill(this.keys, 0L);
+		this.size = 0;
+	}
+
+	//Find the entry of a key, the multiplication mixes the high bits of the key into the low bits used for the index
+	private int indexOf(long key)
+	{
+		return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & this.mask;
+	}
+
+	//Accessor methods to get values of instance variables
+	public boolean isSymmetric()
+	{
+		return this.symmetric;
+	}
+
+	public int getSize()
+	{
+		return this.size;
+	}
+
+	public int getCapacity()
+	{
+		return this.keys.length;
+	}
+
+	public long getHits()
+	{
+		return this.hits;
+	}
+
+	public long getMisses()
+	{
+		return this.misses;
+	}
+
+	//Get the fraction of lookups that found their position
+	public double getHitRate()
+	{
+		return this.hits + this.misses == 0 ? 0 : (double) this.hits / (this.hits + this.misses);
+	}
+
+	//Usage: java MoveCache [number of games] [number of checkers] [entries]
+	//Plays random openings through a symmetric and a naive cache of the same size and compares how many entries each needs and how often each finds a position
+	public static void main(String[] args)
+	{
+		int games = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+		int plies = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+		int entries = args.length > 2 ? Integer.parseInt(args[2]) : 1 << 20;
+		MoveCache[] caches = {new MoveCache(entries, false), new MoveCache(entries, true)};
+
+		for (int i = 0; i < caches.length; i++)
+		{
+			SplittableRandom random = new SplittableRandom(1); //Use the same openings for both caches
+			Position position = new Position();
+
+			for (int j = 0; j < games; j++)
+			{
+				position.clear();
+
+				for (int k = 0; k < plies; k++)
+				{
+					int column = random.nextInt(Position.WIDTH);
+
+					while (!position.canPlay(column))
+					{
+						column = random.nextInt(Position.WIDTH);
+					}
+
+					//Determine if the position has been seen, otherwise the random column stands in for the computer's choice
+					if (caches[i].get(position) == -1)
+					{
+						caches[i].put(position, column);
+					}
+
+					position.drop(column, k % 2 + 1);
+				}
+			}
+
+			System.out.printf("%-9s %8d entries used, hit rate %.1f%%%n", caches[i].isSymmetric() ? "Symmetric" : "Naive", caches[i].getSize(), 100 * caches[i].getHitRate());
+		}
+	}
+} //End of class
\ No newline at end of file
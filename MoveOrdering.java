@@ -0,0 +1,205 @@
+//MoveOrdering
+//Description: This class orders the columns a search checks so the best one is usually checked first, which lets alpha-beta pruning skip more of the others.
+//Columns are ranked by the best column from an earlier search, the threats they make, killer moves that caused cutoffs at the same depth, a history of cutoffs and closeness to the centre.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+import java.util.*;
+
+public class MoveOrdering
+{
+	private static final int FIRST_SCORE = 1 << 30; //Score of the best column from an earlier search
+	private static final int THREAT_SCORE = 1 << 24; //Score of each hole a column makes that would connect four
+	private static final int LOSING_SCORE = -(1 << 29); //Score of a column that lets the opponent connect four on top of it
+	private static final int[] CENTER_SCORES = {0, 64, 128, 192, 128, 64, 0}; //Score of each column by its closeness to the centre
+	private static final int HISTORY_LIMIT = 64; //History scores are halved once one reaches this, so history moves a column at most one step closer to the centre
+	private static final int[] KILLER_SCORES = {8, 4}; //Score of the two killer moves, which only break ties since the best column from an earlier search already finds most cutoffs
+
+	private boolean center; //If columns closer to the centre are checked first
+	private boolean killers; //If killer moves are checked first
+	private boolean history; //If columns are ranked by the cutoffs they caused before
+	private boolean threats; //If columns are ranked by the threats they make
+	private int[][] killerMoves = new int[Position.WIDTH * Position.HEIGHT + 1][2]; //Two holes which last caused a cutoff after each number of checkers
+	private int[][] historyScores = new int[3][Position.WIDTH * Position.COLUMN_BITS]; //Cutoffs caused by each side placing a checker in each hole
+	private int[] scores = new int[Position.WIDTH]; //Scores of the columns being ordered, reused for every position
+
+	//Create an ordering that uses every heuristic
+	public MoveOrdering()
+	{
+		this(true, true, true, true);
+	}
+
+	public MoveOrdering(boolean center, boolean killers, boolean history, boolean threats)
+	{
+		this.center = center;
+		this.killers = killers;
+		this.history = history;
+		this.threats = threats;
+		this.clear();
+	}
+
+	//Fill the array with the columns that can be played in the order to check them, return the number of columns
+	public int order(Position position, int checker, int first, int[] columns)
+	{
+		long own = position.getBoard(checker);
+		long mask = own | position.getBoard(3 - checker);
+		long opponentWins = this.threats ? winningHoles(position.getBoard(3 - checker), mask) : 0L;
+		int[] killerMoves = this.killerMoves[position.getMoves()];
+		int count = 0;
+
+		for (int i = 0; i < Position.WIDTH; i++)
+		{
+			int column = this.center ? Search.ORDER[i] : i;
+
+			if (!position.canPlay(column))
+			{
+				continue;
+			}
+
+			int hole = column * Position.COLUMN_BITS + position.getHeight(column);
+			int score = this.center ? CENTER_SCORES[column] : 0;
+
+			if (column == first)
+			{
+				score += FIRST_SCORE;
+			}
+
+			if (this.threats)
+			{
+				//Determine if the opponent could connect four on top of this checker, otherwise count the holes where the side could connect four afterwards
+				if ((opponentWins & (1L << (hole + 1))) != 0)
+				{
+					score += LOSING_SCORE;
+				}
+				else
+				{
+					score += THREAT_SCORE * Long.bitCount(winningHoles(own | (1L << hole), mask | (1L << hole)));
+				}
+			}
+
+			if (this.killers)
+			{
+				if (hole == killerMoves[0])
+				{
+					score += KILLER_SCORES[0];
+				}
+				else if (hole == killerMoves[1])
+				{
+					score += KILLER_SCORES[1];
+				}
+			}
+
+			if (this.history)
+			{
+				score += this.historyScores[checker][hole];
+			}
+
+			//Insert the column after every column with a higher or equal score, which keeps the order stable
+			int j = count;
+
+			while (j > 0 && this.scores[j - 1] < score)
+			{
+				columns[j] = columns[j - 1];
+				this.scores[j] = this.scores[j - 1];
+				j--;
+			}
+
+			columns[j] = column;
+			this.scores[j] = score;
+			count++;
+		}
+
+		return count;
+	}
+
+	//Remember a column that caused a cutoff, a cutoff found with more checkers left to search counts for more
+	public void addCutoff(Position position, int checker, int column, int depth)
+	{
+		int[] killerMoves = this.killerMoves[position.getMoves()];
+		int hole = column * Position.COLUMN_BITS + position.getHeight(column);
+
+		if (killerMoves[0] != hole)
+		{
+			killerMoves[1] = killerMoves[0];
+			killerMoves[0] = hole;
+		}
+
+		int[] historyScores = this.historyScores[checker];
+		historyScores[hole] += depth;
+
+		//Determine if the history scores have grown too large, in which case they are all halved so recent cutoffs count for more
+		if (historyScores[hole] >= HISTORY_LIMIT)
+		{
+			for (int i = 1; i <= 2; i++)
+			{
+				for (int j = 0; j < this.historyScores[i].length; j++)
+				{
+					this.historyScores[i][j] /= 2;
+				}
+			}
+		}
+	}
+
+	//Forget the killer moves and history
+	public void clear()
+	{
+		for (int i = 0; i < this.killerMoves.length; i++)
+		{
+			this.killerMoves[i][0] = -1;
+			this.killerMoves[i][1] = -1;
+		}
+
+		for (int i = 0; i < this.historyScores.length; i++)
+		{
+			Arrays.fill(this.historyScores[i], 0);
+		}
+	}
+
+	//Find the empty holes where a side's checkers would connect four, the holes do not need to be playable yet
+	public static long winningHoles(long own, long mask)
+	{
+		//Check vertically, only a hole above three checkers can connect four
+		long holes = (own << 1) & (own << 2) & (own << 3);
+
+		//Check horizontally and along both diagonals, the hole can be at either end or either middle place of the four
+		for (int shift = Position.COLUMN_BITS - 1; shift <= Position.COLUMN_BITS + 1; shift++)
+		{
+			long pairs = (own << shift) & (own << (2 * shift));
+			holes |= pairs & (own << (3 * shift));
+			holes |= pairs & (own >> shift);
+			pairs = (own >> shift) & (own >> (2 * shift));
+			holes |= pairs & (own << shift);
+			holes |= pairs & (own >> (3 * shift));
+		}
+
+		return holes & (Position.BOARD ^ mask);
+	}
+
+	//Usage: java MoveOrdering [search depth]
+	//Searches every corpus position of the benchmark with each heuristic added in turn and prints the positions visited and the effective branching factor
+	public static void main(String[] args)
+	{
+		int depth = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+		String[] names = {"Left to right", "Centre first", "Threats", "Killer moves", "History"};
+
+		System.out.printf("%-16s %14s %10s%n", "Ordering", "Positions", "Branching");
+
+		for (int i = 0; i < names.length; i++)
+		{
+			Search search = new Search(new TableEvaluator(), depth);
+			search.setOrdering(new MoveOrdering(i >= 1, i >= 3, i >= 4, i >= 2));
+			long total = 0;
+			double logs = 0; //Sum of the logarithms of the branching factors, which averages them geometrically
+
+			for (int j = 0; j < Benchmark.CORPUS.length; j++)
+			{
+				Position position = Position.fromMoves(Benchmark.CORPUS[j]);
+				search.getOrdering().clear();
+				search.bestMove(position, position.getMoves() % 2 + 1);
+				total += search.getNodes();
+				logs += Math.log(search.getNodes()) / Math.min(depth, Position.WIDTH * Position.HEIGHT - position.getMoves());
+			}
+
+			System.out.printf("%-16s %14d %10.2f%n", names[i], total, Math.exp(logs / Benchmark.CORPUS.length));
+		}
+	}
+} //End of class
\ No newline at end of file
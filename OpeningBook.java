@@ -0,0 +1,186 @@
+//OpeningBook
+//Description: This class looks up the best column for opening positions in a sorted file of precomputed moves, which is memory mapped so no entries are loaded onto the heap.
+//A position and its mirror image share one entry, stored under the canonical key with the column in the canonical orientation.
+//The main method generates the file by searching every position up to a number of checkers to a fixed depth, so an entry is the choice of a deep heuristic search, not a solved result.
+//The Solver is not used since an opening position takes it tens of seconds and the book holds thousands of them, which is why the level 10 computer solves before it looks in the book.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+
+public class OpeningBook
+{
+	public static final String FILE = "book.bin"; //File of the book used by the computer
+	private static final int ENTRY_SIZE = 16; //Each entry is the key of the position, its score from the search and its best column
+
+	private static OpeningBook shared; //Book loaded from FILE for all computers, null if there is none
+	private static boolean loaded; //If loading the shared book has been tried
+
+	private MappedByteBuffer entries; //Entries sorted by key
+	private int size; //Number of entries
+	private volatile long lookups; //The counters are not synchronized, so they are approximate when the book is shared
+	private volatile long hits;
+
+	public OpeningBook(String file) throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(Paths.get(file), StandardOpenOption.READ))
+		{
+			this.entries = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()); //The map stays valid after the channel is closed
+			this.size = (int) (channel.size() / ENTRY_SIZE);
+		}
+	}
+
+	//Get the book in FILE, which is loaded the first time it is needed, return null if there is no book
+	public static synchronized OpeningBook getShared()
+	{
+		if (!loaded)
+		{
+			loaded = true;
+
+			try
+			{
+				if (Files.exists(Paths.get(FILE)))
+				{
+					shared = new OpeningBook(FILE);
+				}
+			}
+			catch (IOException e)
+			{
+				e.printStackTrace();
+			}
+		}
+
+		return shared;
+	}
+
+	//Find the best column for the side to move in a position, return -1 if the position is not in the book
+	public int lookup(Position position)
+	{
+		int index = this.find(position.getCanonicalKey());
+		this.lookups++;
+
+		if (index == -1)
+		{
+			return -1;
+		}
+
+		this.hits++;
+		return position.toCanonical(this.entries.getInt(index * ENTRY_SIZE + 12));
+	}
+
+	//Find the score the search gave a position for the side to move, which is a TableEvaluator score rather than a Solver score, the position must be in the book
+	public int getScore(Position position)
+	{
+		return this.entries.getInt(this.find(position.getCanonicalKey()) * ENTRY_SIZE + 8);
+	}
+
+	//Find the index of the entry with a key by binary search, return -1 if there is none
+	private int find(long key)
+	{
+		int low = 0;
+		int high = this.size - 1;
+
+		while (low <= high)
+		{
+			int middle = (low + high) >>> 1;
+			long current = this.entries.getLong(middle * ENTRY_SIZE);
+
+			if (current < key)
+			{
+				low = middle + 1;
+			}
+			else if (current > key)
+			{
+				high = middle - 1;
+			}
+			else
+			{
+				return middle;
+			}
+		}
+
+		return -1;
+	}
+
+	//Accessor methods to get values of instance variables
+	public int getSize()
+	{
+		return this.size;
+	}
+
+	public long getLookups()
+	{
+		return this.lookups;
+	}
+
+	public long getHits()
+	{
+		return this.hits;
+	}
+
+	//Get the fraction of lookups that found their position
+	public double getHitRate()
+	{
+		return this.lookups == 0 ? 0 : (double) this.hits / this.lookups;
+	}
+
+	//Usage: java OpeningBook [number of checkers] [search depth] [file]
+	public static void main(String[] args) throws IOException
+	{
+		int plies = args.length > 0 ? Integer.parseInt(args[0]) : 6;
+		int depth = args.length > 1 ? Integer.parseInt(args[1]) : 14;
+		String file = args.length > 2 ? args[2] : FILE;
+		TreeMap<Long, int[]> book = new TreeMap<Long, int[]>(); //Score and best column of each position, sorted by canonical key
+		Search search = new Search(new TableEvaluator(), depth);
+		search.setTable(new TranspositionTable(256, TranspositionTable.DEPTH_PREFERRED));
+		long start = System.nanoTime();
+
+		generate(new Position(), plies, depth, search, book);
+
+		//Write the entries in order of their keys
+		try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file))))
+		{
+			for (Map.Entry<Long, int[]> entry : book.entrySet())
+			{
+				output.writeLong(entry.getKey());
+				output.writeInt(entry.getValue()[0]);
+				output.writeInt(entry.getValue()[1]);
+			}
+		}
+
+		System.out.println(book.size() + " positions written to " + file + " in " + String.format("%.1f", (System.nanoTime() - start) / 1e9) + " seconds");
+	}
+
+	//Search every position reachable from this one without either side connecting four, up to a number of checkers
+	private static void generate(Position position, int plies, int depth, Search search, TreeMap<Long, int[]> book)
+	{
+		//Determine if the position, or its mirror image, has already been reached another way
+		if (book.containsKey(position.getCanonicalKey()))
+		{
+			return;
+		}
+
+		int checker = position.getMoves() % 2 + 1;
+		int column = search.bestMove(position, checker, 0, depth);
+		book.put(position.getCanonicalKey(), new int[] {search.getScore(), position.toCanonical(column)});
+
+		if (position.getMoves() >= plies)
+		{
+			return;
+		}
+
+		for (int i = 0; i < Position.WIDTH; i++)
+		{
+			//Determine if the column can be played without ending the round
+			if (position.canPlay(i) && !position.isWinningMove(i, checker))
+			{
+				position.drop(i, checker);
+				generate(position, plies, depth, search, book);
+				position.undo(i);
+			}
+		}
+	}
+} //End of class
\ No newline at end of file
@@ -0,0 +1,163 @@
+//ParallelSearch
+//Description: This class searches the same position on several threads which share one transposition table, so each thread benefits from what the others have found.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+import java.util.concurrent.*;
+
+public class ParallelSearch
+{
+	//Depths skipped by each helper thread, helpers that skip more often run ahead of the main thread
+	private static final int[] SKIP_SIZE = {0, 1, 2, 2, 2, 2, 3, 3, 3, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4};
+	private static final int[] SKIP_PHASE = {0, 1, 0, 1, 2, 3, 0, 1, 2, 3, 4, 5, 0, 1, 2, 3, 4, 5, 6, 7};
+
+	private Search[] searches; //One search for each thread, the first runs on the calling thread
+	private TranspositionTable table; //Table shared by all searches
+	private ExecutorService helpers; //Threads for the helper searches, null if there is only one thread
+	private int score; //Score of the last best move
+	private int completedDepth; //Depth of the deepest search that finished during the last move
+	private long nodes; //Number of positions visited by all threads in the last search
+	private long time; //Nanoseconds taken by the last search
+
+	public ParallelSearch(int threads, int megabytes)
+	{
+		this.table = new TranspositionTable(megabytes, TranspositionTable.DEPTH_PREFERRED);
+		this.searches = new Search[threads];
+
+		for (int i = 0; i < threads; i++)
+		{
+			this.searches[i] = new Search(new TableEvaluator(), 0);
+			this.searches[i].setTable(this.table);
+			this.searches[i].setStagger(SKIP_SIZE[i % SKIP_SIZE.length], SKIP_PHASE[i % SKIP_PHASE.length]);
+		}
+
+		//Helper threads are daemons so they never keep the program running, they are kept until close() is called
+		if (threads > 1)
+		{
+			this.helpers = Executors.newFixedThreadPool(threads - 1, runnable ->
+			{
+				Thread thread = new Thread(runnable, "Search helper");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	//Find the best column by searching deeper on every thread until the time in milliseconds runs out or the depth is reached, a time of 0 means there is no limit
+	public int bestMove(Position position, int checker, long millis, int maxDepth)
+	{
+		long start = System.nanoTime();
+		int[] columns = new int[this.searches.length]; //Best column found by each thread
+		CountDownLatch finished = new CountDownLatch(this.searches.length - 1); //Counts the helpers that have stopped
+
+		//Start the helper searches, each on its own copy of the position
+		for (int i = 1; i < this.searches.length; i++)
+		{
+			int index = i;
+			Search search = this.searches[i];
+			Position copy = new Position(position);
+			search.setStopped(false);
+
+			this.helpers.execute(() ->
+			{
+				try
+				{
+					columns[index] = search.bestMove(copy, checker, millis, maxDepth);
+				}
+				finally
+				{
+					finished.countDown();
+				}
+			});
+		}
+
+		columns[0] = this.searches[0].bestMove(position, checker, millis, maxDepth);
+
+		//Stop the helpers once the main search has finished and wait for them
+		for (int i = 1; i < this.searches.length; i++)
+		{
+			this.searches[i].setStopped(true);
+		}
+
+		//Wait for the helpers even if the move has been cancelled, so none of them is still searching when the next move resets the searches
+		boolean interrupted = false;
+
+		while (true)
+		{
+			try
+			{
+				finished.await();
+				break;
+			}
+			catch (InterruptedException e)
+			{
+				interrupted = true;
+			}
+		}
+
+		//Determine if the move has been cancelled, in which case its result is not used
+		if (interrupted)
+		{
+			Thread.currentThread().interrupt();
+			return columns[0];
+		}
+
+		int best = 0; //Index of the search that finished the deepest, the main search is kept if none went deeper
+		this.nodes = 0;
+
+		for (int i = 0; i < this.searches.length; i++)
+		{
+			this.nodes += this.searches[i].getNodes();
+
+			if (this.searches[i].getCompletedDepth() > this.searches[best].getCompletedDepth())
+			{
+				best = i;
+			}
+		}
+
+		this.score = this.searches[best].getScore();
+		this.completedDepth = this.searches[best].getCompletedDepth();
+		this.time = System.nanoTime() - start;
+		return columns[best];
+	}
+
+	//Stop the helper threads, the search cannot be used afterwards
+	public void close()
+	{
+		if (this.helpers != null)
+		{
+			this.helpers.shutdown();
+		}
+	}
+
+	//Accessor methods to get values of instance variables
+	public int getThreads()
+	{
+		return this.searches.length;
+	}
+
+	public TranspositionTable getTable()
+	{
+		return this.table;
+	}
+
+	public int getScore()
+	{
+		return this.score;
+	}
+
+	public int getCompletedDepth()
+	{
+		return this.completedDepth;
+	}
+
+	public long getNodes()
+	{
+		return this.nodes;
+	}
+
+	//Get the number of positions visited per second by all threads in the last search
+	public long getNodesPerSecond()
+	{
+		return this.time == 0 ? 0 : this.nodes * 1000000000L / this.time;
+	}
+} //End of class
\ No newline at end of file
@@ -0,0 +1,163 @@
+//Ponderer
+//Description: This class thinks on the player's time. After the computer moves it searches the position after each of the player's replies on a background thread, so when the player moves the computer's answer may already be known.
+//The ponder search shares the transposition table of the computer's own search, so even a reply that was not searched deep enough lets the computer's search start from what was found.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+import java.util.concurrent.*;
+
+public class Ponderer
+{
+	private static final long PONDER_MILLIS = 30000; //Longest time spent pondering one move, so an idle player does not keep a processor busy
+
+	private Search search; //Search used only by the ponder thread
+	private ExecutorService thread; //Thread that ponders
+	private volatile int generation; //Number of times pondering has been started or stopped, a ponder started under an older number stops and keeps none of its results
+	private int[] replies = new int[Position.WIDTH]; //Column of each reply
+	private long[] keys = new long[Position.WIDTH]; //Key of the position after each reply
+	private int[] columns = new int[Position.WIDTH]; //Best column found for the computer after each reply
+	private int[] depths = new int[Position.WIDTH]; //Depth each reply has been searched to, 0 if it has not finished a search
+	private int count; //Number of replies being pondered
+	private long nodes; //Number of positions searched while pondering the last move
+
+	public Ponderer(TranspositionTable table)
+	{
+		this.search = new Search(new ThreatEvaluator(), 0);
+		this.search.setTable(table);
+		this.search.setOrdering(new MoveOrdering());
+
+		//Use a daemon thread so pondering never keeps the program running
+		this.thread = Executors.newSingleThreadExecutor(runnable ->
+		{
+			Thread thread = new Thread(runnable, "Ponder");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	//Start pondering the replies of the side with the checker, the position is copied so the caller may change it
+	//Nothing is started if the calling thread has been interrupted, which means the computer's move was cancelled and the round it belongs to is over
+	public synchronized void start(Position position, int checker)
+	{
+		this.stop();
+
+		if (Thread.currentThread().isInterrupted())
+		{
+			return;
+		}
+
+		Position copy = new Position(position);
+		int[] replies = new int[Position.WIDTH];
+		int count = new MoveOrdering().order(copy, checker, -1, replies); //Likely replies first, the ones that make threats or are near the centre
+
+		this.count = 0;
+
+		for (int i = 0; i < count; i++)
+		{
+			//Determine if the reply ends the round, in which case the computer has nothing to answer
+			if (copy.isWinningMove(replies[i], checker) || copy.getMoves() + 1 == Position.WIDTH * Position.HEIGHT)
+			{
+				continue;
+			}
+
+			copy.drop(replies[i], checker);
+			this.keys[this.count] = copy.getKey();
+			copy.undo(replies[i]);
+			this.replies[this.count] = replies[i];
+			this.depths[this.count] = 0;
+			this.count++;
+		}
+
+		this.nodes = 0;
+		int generation = this.generation;
+		this.thread.execute(() -> this.ponder(copy, checker, generation));
+	}
+
+	//Search every reply one depth at a time, so the likely replies are searched deeper before the time runs out
+	//The ponder thread runs one ponder at a time, so a stopped ponder has always finished before the next one starts
+	private void ponder(Position position, int checker, int generation)
+	{
+		long deadline = System.nanoTime() + PONDER_MILLIS * 1000000L;
+		int[] replies = new int[Position.WIDTH];
+		int count;
+
+		synchronized (this)
+		{
+			//Determine if pondering was stopped before it began
+			if (generation != this.generation)
+			{
+				return;
+			}
+
+			this.search.setStopped(false);
+			count = this.count;
+			System.arraycopy(this.replies, 0, replies, 0, count);
+		}
+
+		for (int depth = 1; depth <= Position.WIDTH * Position.HEIGHT - position.getMoves() - 1 && generation == this.generation; depth++)
+		{
+			for (int i = 0; i < count; i++)
+			{
+				long remaining = (deadline - System.nanoTime()) / 1000000L; //Milliseconds left, which the search stops at even partway through a depth
+
+				//Determine if the time for pondering has run out
+				if (remaining <= 0)
+				{
+					return;
+				}
+
+				position.drop(replies[i], checker);
+				int column = this.search.bestMove(position, 3 - checker, remaining, depth);
+				position.undo(replies[i]);
+
+				synchronized (this)
+				{
+					//Determine if pondering has been stopped or the time ran out, in which case the unfinished search is thrown away
+					if (this.search.isStopped() || generation != this.generation)
+					{
+						return;
+					}
+
+					this.columns[i] = column;
+					this.depths[i] = depth;
+					this.nodes += this.search.getNodes();
+				}
+			}
+		}
+	}
+
+	//Stop pondering without waiting for the ponder thread, so it can be called from the GUI, the ponder thread throws away the search it is in the middle of
+	public synchronized void stop()
+	{
+		this.generation++;
+		this.search.setStopped(true);
+	}
+
+	//Stop pondering and the ponder thread, the ponderer cannot be used afterwards
+	public void close()
+	{
+		this.stop();
+		this.thread.shutdown();
+	}
+
+	//Find the column the computer should answer with if the position was pondered at least to a depth, return -1 if it was not
+	public synchronized int lookup(Position position, int depth)
+	{
+		long key = position.getKey();
+
+		for (int i = 0; i < this.count; i++)
+		{
+			if (this.keys[i] == key && this.depths[i] >= depth && this.depths[i] > 0)
+			{
+				return this.columns[i];
+			}
+		}
+
+		return -1;
+	}
+
+	//Accessor methods to get values of instance variables
+	public synchronized long getNodes()
+	{
+		return this.nodes;
+	}
+} //End of class
\ No newline at end of file
@@ -0,0 +1,300 @@
+//Position
+//Description: This class stores the checkers of a Connect 4 board as two bitboards, one for each side.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+import java.util.*;
+
+public class Position
+{
+	public static final int WIDTH = 7; //Number of columns
+	public static final int HEIGHT = 6; //Number of rows
+	public static final int COLUMN_BITS = HEIGHT + 1; //Bits used by each column, the extra bit on top keeps the columns apart
+	private static final int[] DIRECTIONS = {1, COLUMN_BITS, COLUMN_BITS - 1, COLUMN_BITS + 1}; //Shifts that move one hole vertically, horizontally and along both diagonals
+	public static final long BOTTOM = 0x40810204081L; //Bit of the bottom hole of each column
+	public static final long BOARD = BOTTOM * ((1L << HEIGHT) - 1); //Bits of every hole on the board, leaving out the bit above each column
+	private static final long COLUMN_MASK = (1L << COLUMN_BITS) - 1; //Bits of the first column
+	private static final long[][] ZOBRIST = new long[3][WIDTH * COLUMN_BITS]; //Random keys for each checker in each hole, xor-ed together to hash a position
+
+	private long playerBoard; //Bits of the holes holding the player's checkers
+	private long computerBoard; //Bits of the holes holding the computer's checkers
+	private int[] heights = new int[WIDTH]; //Number of checkers in each column
+	private int moves; //Number of checkers on the board
+	private int[] history = new int[WIDTH * HEIGHT]; //Columns of the checkers on the board in the order they were placed
+	private long hash; //Zobrist hash of the checkers on the board
+
+	//Generate the Zobrist keys, a fixed seed keeps hashes the same between runs
+	static
+	{
+		Random random = new Random(20230122L);
+
+		for (int i = 1; i <= 2; i++)
+		{
+			for (int j = 0; j < WIDTH * COLUMN_BITS; j++)
+			{
+				ZOBRIST[i][j] = random.nextLong();
+			}
+		}
+	}
+
+	//Create an empty position
+	public Position()
+	{
+		this.clear();
+	}
+
+	//Create a copy of another position
+	public Position(Position other)
+	{
+		this.playerBoard = other.playerBoard;
+		this.computerBoard = other.computerBoard;
+		System.arraycopy(other.heights, 0, this.heights, 0, WIDTH);
+		System.arraycopy(other.history, 0, this.history, 0, other.moves);
+		this.moves = other.moves;
+		this.hash = other.hash;
+	}
+
+	//Create a position from a list of columns numbered from 1, the player and computer take turns starting with the player
+	public static Position fromMoves(String moves)
+	{
+		Position position = new Position();
+
+		for (int i = 0; i < moves.length(); i++)
+		{
+			position.drop(moves.charAt(i) - '1', i % 2 + 1);
+		}
+
+		return position;
+	}
+
+	//Remove all checkers from the board
+	public void clear()
+	{
+		this.playerBoard = 0L;
+		this.computerBoard = 0L;
+
+		for (int i = 0; i < WIDTH; i++)
+		{
+			this.heights[i] = 0;
+		}
+
+		this.moves = 0;
+		this.hash = 0L;
+	}
+
+	//Determine if a checker can be placed in the column
+	public boolean canPlay(int column)
+	{
+		return this.heights[column] < HEIGHT;
+	}
+
+	//Place a checker in the column, 1 and 2 represent player and computer respectively, return the row of the grid it lands on
+	public int drop(int column, int checker)
+	{
+		int index = column * COLUMN_BITS + this.heights[column];
+		long bit = 1L << index;
+
+		if (checker == 1)
+		{
+			this.playerBoard |= bit;
+		}
+		else
+		{
+			this.computerBoard |= bit;
+		}
+
+		this.hash ^= ZOBRIST[checker][index];
+		this.heights[column]++;
+		this.history[this.moves] = column;
+		this.moves++;
+		return HEIGHT - this.heights[column];
+	}
+
+	//Remove the last checker placed and return its column
+	public int undo()
+	{
+		int column = this.history[this.moves - 1];
+		this.undo(column);
+		return column;
+	}
+
+	//Remove the top checker from the column, which must be the column of the last checker placed
+	public void undo(int column)
+	{
+		this.heights[column]--;
+		this.moves--;
+
+		int index = column * COLUMN_BITS + this.heights[column];
+		long bit = 1L << index;
+		this.hash ^= ZOBRIST[(this.playerBoard & bit) != 0 ? 1 : 2][index];
+		this.playerBoard &= ~bit;
+		this.computerBoard &= ~bit;
+	}
+
+	//Determine if every hole on the board is occupied
+	public boolean isFull()
+	{
+		return this.moves == WIDTH * HEIGHT;
+	}
+
+	//Determine if placing a checker in the column would connect four, without changing the board
+	public boolean isWinningMove(int column, int checker)
+	{
+		long bit = 1L << (column * COLUMN_BITS + this.heights[column]);
+		return isWin(this.getBoard(checker) | bit);
+	}
+
+	//Determine if the checkers of one side have connected four
+	public boolean isConnected(int checker)
+	{
+		return isWin(this.getBoard(checker));
+	}
+
+	//Find the start and end holes of four connected checkers of one side, return false if there are none
+	public boolean findEndPoints(int checker, int[][] endPoints)
+	{
+		long board = this.getBoard(checker);
+
+		//Check each direction
+		for (int i = 0; i < DIRECTIONS.length; i++)
+		{
+			int shift = DIRECTIONS[i];
+			long pairs = board & (board >> shift); //Bits which have a checker of the same side next to them
+			long fours = pairs & (pairs >> (2 * shift)); //Bits which start four connected checkers
+
+			if (fours != 0)
+			{
+				int start = Long.numberOfTrailingZeros(fours);
+				int end = start + 3 * shift;
+				endPoints[0][0] = HEIGHT - 1 - start % COLUMN_BITS;
+				endPoints[0][1] = start / COLUMN_BITS;
+				endPoints[1][0] = HEIGHT - 1 - end % COLUMN_BITS;
+				endPoints[1][1] = end / COLUMN_BITS;
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	//Determine if a bitboard contains four connected checkers, each check pairs up neighbouring bits and then pairs up the pairs
+	public static boolean isWin(long board)
+	{
+		//Check vertically
+		long pairs = board & (board >> 1);
+
+		if ((pairs & (pairs >> 2)) != 0)
+		{
+			return true;
+		}
+
+		//Check horizontally
+		pairs = board & (board >> COLUMN_BITS);
+
+		if ((pairs & (pairs >> (2 * COLUMN_BITS))) != 0)
+		{
+			return true;
+		}
+
+		//Check the diagonal from top left to bottom right
+		pairs = board & (board >> (COLUMN_BITS - 1));
+
+		if ((pairs & (pairs >> (2 * (COLUMN_BITS - 1)))) != 0)
+		{
+			return true;
+		}
+
+		//Check the diagonal from bottom left to top right
+		pairs = board & (board >> (COLUMN_BITS + 1));
+		return (pairs & (pairs >> (2 * (COLUMN_BITS + 1)))) != 0;
+	}
+
+	//Find the row of the grid where the next checker in the column lands, return -1 if the column is full
+	public int getRow(int column)
+	{
+		return HEIGHT - 1 - this.heights[column];
+	}
+
+	//Get the checker in a hole of the grid, 0 means the hole is empty
+	public int getChecker(int row, int column)
+	{
+		long bit = 1L << (column * COLUMN_BITS + HEIGHT - 1 - row);
+
+		if ((this.playerBoard & bit) != 0)
+		{
+			return 1;
+		}
+
+		return (this.computerBoard & bit) != 0 ? 2 : 0;
+	}
+
+	//Get the bitboard of either the player's or the computer's checkers
+	public long getBoard(int checker)
+	{
+		return checker == 1 ? this.playerBoard : this.computerBoard;
+	}
+
+	public int getHeight(int column)
+	{
+		return this.heights[column];
+	}
+
+	public int getMoves()
+	{
+		return this.moves;
+	}
+
+	//Get the column of a checker by the order it was placed in, the first checker is 0
+	public int getMove(int index)
+	{
+		return this.history[index];
+	}
+
+	//Get a key that is different for every position, the checkers of the player plus a bit above the top checker of each column
+	public long getKey()
+	{
+		return this.playerBoard + (this.playerBoard | this.computerBoard) + BOTTOM;
+	}
+
+	//Get the key of the position reflected across the centre column, each column of the key only depends on the checkers in that column
+	public long getMirrorKey()
+	{
+		long key = this.getKey();
+		long mirror = 0L;
+
+		for (int i = 0; i < WIDTH; i++)
+		{
+			mirror |= ((key >>> (i * COLUMN_BITS)) & COLUMN_MASK) << ((WIDTH - 1 - i) * COLUMN_BITS);
+		}
+
+		return mirror;
+	}
+
+	//Get a key that is the same for a position and its mirror image, the smaller of the two keys
+	public long getCanonicalKey()
+	{
+		return Math.min(this.getKey(), this.getMirrorKey());
+	}
+
+	//Determine if the canonical key belongs to the mirror image, in which case columns must be reflected between the two
+	public boolean isMirrored()
+	{
+		return this.getMirrorKey() < this.getKey();
+	}
+
+	//Translate a column between this position and the orientation of its canonical key, the translation is its own inverse
+	public int toCanonical(int column)
+	{
+		return this.isMirrored() ? mirror(column) : column;
+	}
+
+	//Reflect a column across the centre column
+	public static int mirror(int column)
+	{
+		return WIDTH - 1 - column;
+	}
+
+	public long getHash()
+	{
+		return this.hash;
+	}
+} //End of class
\ No newline at end of file
@@ -0,0 +1,79 @@
+//Rules
+//Description: This class holds the size of the board and the number of checkers a side must connect to win a round, from the classic 7 by 6 board with connect 4 up to boards such as 10 by 12 with connect 5.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+
+public final class Rules
+{
+	public static final int MAX_WIDTH = 16; //Largest board that can be chosen
+	public static final int MAX_HEIGHT = 16;
+	public static final Rules CLASSIC = new Rules(Position.WIDTH, Position.HEIGHT, 4); //The rules every level of the computer was built for
+	public static final Rules[] PRESETS = {CLASSIC, new Rules(8, 7, 4), new Rules(9, 7, 4), new Rules(10, 8, 5), new Rules(10, 12, 5)}; //Rules that can be chosen in the GUI
+
+	private final int width; //Number of columns
+	private final int height; //Number of rows
+	private final int connect; //Number of checkers in a row that win a round
+
+	public Rules(int width, int height, int connect)
+	{
+		//Determine if the rules can be played, a line must fit on the board in some direction
+		if (width < 1 || width > MAX_WIDTH || height < 1 || height > MAX_HEIGHT || connect < 2 || connect > Math.max(width, height))
+		{
+			throw new IllegalArgumentException("Cannot play connect " + connect + " on a " + width + " by " + height + " board");
+		}
+
+		this.width = width;
+		this.height = height;
+		this.connect = connect;
+	}
+
+	//Determine if these are the classic rules, which the opening book, solver and tables of the computer are made for
+	public boolean isClassic()
+	{
+		return this.equals(CLASSIC);
+	}
+
+	//Accessor methods to get values of instance variables
+	public int getWidth()
+	{
+		return this.width;
+	}
+
+	public int getHeight()
+	{
+		return this.height;
+	}
+
+	public int getConnect()
+	{
+		return this.connect;
+	}
+
+	//Get the number of holes on the board
+	public int getArea()
+	{
+		return this.width * this.height;
+	}
+
+	public boolean equals(Object other)
+	{
+		if (!(other instanceof Rules))
+		{
+			return false;
+		}
+
+		Rules rules = (Rules) other;
+		return this.width == rules.width && this.height == rules.height && this.connect == rules.connect;
+	}
+
+	public int hashCode()
+	{
+		return (this.width * 31 + this.height) * 31 + this.connect;
+	}
+
+	//Describe the rules as they are shown in the GUI
+	public String toString()
+	{
+		return this.width + " x " + this.height + ", connect " + this.connect;
+	}
+} //End of class
\ No newline at end of file
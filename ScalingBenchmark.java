@@ -0,0 +1,118 @@
+//ScalingBenchmark
+//Description: This program measures how the time of a move grows with the area of the board, timing the win check, finding the connected checkers and a search to a fixed depth on boards of each size.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+import java.util.*;
+
+public class ScalingBenchmark
+{
+	private static final Rules[] BOARDS = {Rules.PRESETS[0], Rules.PRESETS[1], Rules.PRESETS[2], Rules.PRESETS[3], Rules.PRESETS[4], new Rules(14, 12, 5), new Rules(16, 16, 6)}; //Boards from the classic one up to the largest allowed
+	private static volatile long sink; //Results are written here so the JIT cannot remove the work
+
+	//Usage: java ScalingBenchmark [search depth] [positions per board]
+	public static void main(String[] args)
+	{
+		int depth = args.length > 0 ? Integer.parseInt(args[0]) : 6;
+		int count = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+		System.out.println("Search to depth " + depth + " over " + count + " positions a quarter full on each board");
+		System.out.printf("%-20s %6s %6s %14s %14s %12s %16s%n", "Board", "Area", "Words", "Win check ns", "End points ns", "Move ms", "Nodes per second");
+
+		for (int i = 0; i < BOARDS.length; i++)
+		{
+			Rules rules = BOARDS[i];
+			WidePosition[] positions = randomPositions(rules, count, new Random(i));
+			WideSearch search = new WideSearch(rules);
+			int[][] endPoints = new int[2][2];
+
+			//Time checking every column for a win of either side, warming up first so the JIT has compiled it
+			long checkTime = 0;
+			long checks = 0;
+
+			for (int round = 0; round < 2; round++)
+			{
+				long start = System.nanoTime();
+				long total = 0;
+				checks = 0;
+
+				for (int repeat = 0; repeat < 2000; repeat++)
+				{
+					for (int j = 0; j < positions.length; j++)
+					{
+						for (int column = 0; column < rules.getWidth(); column++)
+						{
+							if (positions[j].canPlay(column))
+							{
+								total += positions[j].isWinningMove(column, 1) || positions[j].isWinningMove(column, 2) ? 1 : 0;
+								checks += 2;
+							}
+						}
+					}
+				}
+
+				sink = total;
+				checkTime = System.nanoTime() - start;
+			}
+
+			//Time finding the connected checkers after each move, as the Model does
+			long endTime = 0;
+
+			for (int round = 0; round < 2; round++)
+			{
+				long start = System.nanoTime();
+				long total = 0;
+
+				for (int repeat = 0; repeat < 2000; repeat++)
+				{
+					for (int j = 0; j < positions.length; j++)
+					{
+						total += positions[j].findEndPoints(1, endPoints) ? 1 : 0;
+					}
+				}
+
+				sink = total;
+				endTime = System.nanoTime() - start;
+			}
+
+			//Time a search from each position, the first one only warms up
+			search.bestMove(positions[0], 1, depth, 0);
+			long searchTime = 0;
+			long nodes = 0;
+
+			for (int j = 0; j < positions.length; j++)
+			{
+				search.bestMove(positions[j], positions[j].getMoves() % 2 + 1, depth, 0);
+				searchTime += search.getTime();
+				nodes += search.getNodes();
+			}
+
+			System.out.printf("%-20s %6d %6d %14.1f %14.1f %12.2f %16d%n", rules, rules.getArea(), (rules.getWidth() * (rules.getHeight() + 1) + 63) / 64, (double) checkTime / checks, endTime / (2000.0 * positions.length), searchTime / 1e6 / positions.length, searchTime == 0 ? 0 : nodes * 1000000000L / searchTime);
+		}
+	}
+
+	//Create positions a quarter full by placing checkers in random columns, a checker that would win is placed elsewhere so the round is still being played
+	private static WidePosition[] randomPositions(Rules rules, int count, Random random)
+	{
+		WidePosition[] positions = new WidePosition[count];
+
+		for (int i = 0; i < count; i++)
+		{
+			WidePosition position = new WidePosition(rules);
+
+			while (position.getMoves() < rules.getArea() / 4)
+			{
+				int column = random.nextInt(rules.getWidth());
+				int checker = position.getMoves() % 2 + 1;
+
+				if (position.canPlay(column) && !position.isWinningMove(column, checker))
+				{
+					position.drop(column, checker);
+				}
+			}
+
+			positions[i] = position;
+		}
+
+		return positions;
+	}
+} //End of class
\ No newline at end of file
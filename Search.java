@@ -0,0 +1,374 @@
+//Search
+//Description: This class finds the best column for a side with a negamax search and alpha-beta pruning.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+
+public class Search
+{
+	public static final int WIN = 1000000; //Score of a win, a win reached after fewer checkers scores higher
+	public static final int[] ORDER = {3, 2, 4, 1, 5, 0, 6}; //Columns from the center outwards, center columns are usually the best moves
+	private static final long COMPUTER_TO_MOVE = 0x9E3779B97F4A7C15L; //Mixed into the hash when the computer is the side to move
+
+	private Evaluator evaluator; //Scores positions where the search stops
+	private TranspositionTable table; //Scores of positions searched before, null if the search does not use one
+	private MoveOrdering ordering; //Orders the columns to check, null if the best column from an earlier search is checked first and the rest from the center outwards
+	private int[][] moveLists = new int[Position.WIDTH * Position.HEIGHT + 1][Position.WIDTH]; //Columns to check after each number of checkers, reused so searching allocates nothing
+	private int depth; //Number of checkers to look ahead
+	private int endgameDepth; //Once this few holes are left the search looks all the way to the end of the round
+	private int score; //Score of the last best move
+	private long nodes; //Number of positions visited by the last search
+	private long time; //Nanoseconds taken by the last search
+	private int completedDepth; //Depth of the deepest search that finished during the last move
+	private long deadline; //Value of System.nanoTime() at which the search stops
+	private boolean stopped; //If the search ran out of time or was interrupted
+	private volatile boolean stopRequested; //If another thread has asked the search to stop
+	private int skipSize; //Number of depths in a row that are searched and then skipped, 0 means no depth is skipped
+	private int skipPhase; //Offset of the depths that are skipped
+
+	public Search(Evaluator evaluator, int depth)
+	{
+		this.evaluator = evaluator;
+		this.depth = depth;
+		this.endgameDepth = depth;
+	}
+
+	//Find the best column for the side with the checker, the position is left unchanged
+	public int bestMove(Position position, int checker)
+	{
+		long start = System.nanoTime();
+		int remaining = Position.WIDTH * Position.HEIGHT - position.getMoves(); //Number of empty holes
+		this.nodes = 0;
+		this.deadline = Long.MAX_VALUE;
+		this.stopped = false;
+
+		int best = this.searchRoot(position, checker, remaining <= this.endgameDepth ? remaining : this.depth, -1);
+		this.completedDepth = remaining <= this.endgameDepth ? remaining : this.depth;
+		this.time = System.nanoTime() - start;
+		return best;
+	}
+
+	//Find the best column by searching one checker deeper at a time until the time in milliseconds runs out, the best column of the deepest finished search is returned
+	public int bestMove(Position position, int checker, long millis)
+	{
+		return this.bestMove(position, checker, millis, Position.WIDTH * Position.HEIGHT - position.getMoves());
+	}
+
+	//Find the best column by searching one checker deeper at a time up to a depth or until the time in milliseconds runs out, a time of 0 means there is no limit
+	public int bestMove(Position position, int checker, long millis, int maxDepth)
+	{
+		long start = System.nanoTime();
+		int remaining = Position.WIDTH * Position.HEIGHT - position.getMoves(); //Number of empty holes
+		int best = -1;
+		int bestScore = 0;
+		this.nodes = 0;
+		this.completedDepth = 0;
+		this.stopped = false;
+
+		for (int depth = 1; depth <= Math.min(maxDepth, remaining); depth++)
+		{
+			//Determine if this search skips the depth, so that searches running side by side work on different depths
+			if (depth > 1 && this.skipSize > 0 && ((depth + this.skipPhase) / this.skipSize) % 2 != 0)
+			{
+				continue;
+			}
+
+			//The first search always finishes so there is a column to return
+			this.deadline = depth == 1 || millis == 0 ? Long.MAX_VALUE : start + millis * 1000000L;
+
+			int column = this.searchRoot(position, checker, depth, best); //The best column of the last search is checked first
+
+			//Determine if the time ran out before the search finished, in which case its result is thrown away
+			if (this.stopped)
+			{
+				break;
+			}
+
+			best = column;
+			bestScore = this.score;
+			this.completedDepth = depth;
+
+			//Determine if a win or loss has been found, which a deeper search would not change
+			if (Math.abs(bestScore) > WIN - 100)
+			{
+				break;
+			}
+		}
+
+		this.score = bestScore;
+		this.time = System.nanoTime() - start;
+		return best;
+	}
+
+	//Search each column to a depth and return the best one, the first column is checked before the others
+	private int searchRoot(Position position, int checker, int depth, int first)
+	{
+		int alpha = -WIN;
+		int best = -1;
+		this.nodes++;
+
+		//Determine if a column wins right away
+		for (int column = 0; column < Position.WIDTH; column++)
+		{
+			if (position.canPlay(column) && position.isWinningMove(column, checker))
+			{
+				this.score = WIN - position.getMoves() - 1;
+				return column;
+			}
+		}
+
+		int[] columns = this.moveLists[position.getMoves()];
+		int count = this.orderMoves(position, checker, first, columns);
+
+		//Check the first column, then the rest in order
+		for (int i = 0; i < count; i++)
+		{
+			int column = columns[i];
+			position.drop(column, checker);
+			int value = -this.negamax(position, 3 - checker, depth - 1, -WIN, -alpha);
+			position.undo(column);
+
+			//Determine if the search has been stopped, in which case the score cannot be trusted
+			if (this.stopped)
+			{
+				return best;
+			}
+
+			//Determine if the column is better than the ones checked before
+			if (value > alpha || best == -1)
+			{
+				alpha = value;
+				best = column;
+			}
+		}
+
+		this.score = alpha;
+		return best;
+	}
+
+	//Score the position for the side with the checker by searching a number of checkers ahead
+	private int negamax(Position position, int checker, int depth, int alpha, int beta)
+	{
+		this.nodes++;
+
+		//Check the time and if the search has been asked to stop every 1024 positions, the result no longer matters once the search is stopped
+		if ((this.nodes & 1023) == 0 && (System.nanoTime() > this.deadline || this.stopRequested || Thread.currentThread().isInterrupted()))
+		{
+			this.stopped = true;
+		}
+
+		if (this.stopped)
+		{
+			return 0;
+		}
+
+		//Determine if the board is full, which is a draw
+		if (position.isFull())
+		{
+			return 0;
+		}
+
+		//Determine if the side can win with its next checker
+		for (int column = 0; column < Position.WIDTH; column++)
+		{
+			if (position.canPlay(column) && position.isWinningMove(column, checker))
+			{
+				return WIN - position.getMoves() - 1;
+			}
+		}
+
+		//Determine if the search has looked far enough ahead
+		if (depth <= 0)
+		{
+			return this.evaluator.evaluate(position, checker);
+		}
+
+		int first = -1; //Best column found when the position was searched before
+		long hash = checker == 2 ? position.getHash() ^ COMPUTER_TO_MOVE : position.getHash();
+
+		//Determine if the position has been searched before
+		if (this.table != null)
+		{
+			long entry = this.table.probe(hash);
+
+			if (entry != 0)
+			{
+				first = TranspositionTable.getColumn(entry);
+
+				//Determine if the earlier search looked far enough ahead to reuse its score
+				if (TranspositionTable.getDepth(entry) >= depth)
+				{
+					int value = TranspositionTable.getScore(entry);
+
+					switch (TranspositionTable.getType(entry))
+					{
+						case TranspositionTable.EXACT:
+							return value;
+						case TranspositionTable.LOWER:
+							alpha = Math.max(alpha, value);
+							break;
+						case TranspositionTable.UPPER:
+							beta = Math.min(beta, value);
+							break;
+					}
+
+					if (alpha >= beta)
+					{
+						return value;
+					}
+				}
+			}
+		}
+
+		int originalAlpha = alpha;
+		int best = -1;
+
+		int[] columns = this.moveLists[position.getMoves()];
+		int count = this.orderMoves(position, checker, first, columns);
+
+		//Check the best column from the earlier search first, then the rest in order
+		for (int i = 0; i < count; i++)
+		{
+			int column = columns[i];
+			position.drop(column, checker);
+			int value = -this.negamax(position, 3 - checker, depth - 1, -beta, -alpha);
+			position.undo(column);
+
+			if (this.stopped)
+			{
+				return 0;
+			}
+
+			if (value > alpha)
+			{
+				alpha = value;
+				best = column;
+
+				//Determine if the opponent would avoid this position
+				if (alpha >= beta)
+				{
+					if (this.ordering != null)
+					{
+						this.ordering.addCutoff(position, checker, column, depth);
+					}
+
+					break;
+				}
+			}
+		}
+
+		//Remember the result, a score at or below the original alpha is only an upper bound and a cutoff is only a lower bound
+		if (this.table != null)
+		{
+			int type = alpha <= originalAlpha ? TranspositionTable.UPPER : alpha >= beta ? TranspositionTable.LOWER : TranspositionTable.EXACT;
+			this.table.store(hash, alpha, depth, type, best);
+		}
+
+		return alpha;
+	}
+
+	//Fill the array with the columns that can be played in the order to check them, return the number of columns
+	private int orderMoves(Position position, int checker, int first, int[] columns)
+	{
+		if (this.ordering != null)
+		{
+			return this.ordering.order(position, checker, first, columns);
+		}
+
+		int count = 0;
+
+		//Check the first column, then the rest from the center outwards
+		if (first != -1 && position.canPlay(first))
+		{
+			columns[count++] = first;
+		}
+
+		for (int i = 0; i < ORDER.length; i++)
+		{
+			if (ORDER[i] != first && position.canPlay(ORDER[i]))
+			{
+				columns[count++] = ORDER[i];
+			}
+		}
+
+		return count;
+	}
+
+	//Accessor methods to set or get values of instance variables
+	//Set a table for the search to remember positions in
+	public void setTable(TranspositionTable table)
+	{
+		this.table = table;
+	}
+
+	public TranspositionTable getTable()
+	{
+		return this.table;
+	}
+
+	//Set how the search orders the columns it checks, or null to check them from the center outwards
+	public void setOrdering(MoveOrdering ordering)
+	{
+		this.ordering = ordering;
+	}
+
+	public MoveOrdering getOrdering()
+	{
+		return this.ordering;
+	}
+
+	//Ask a search running on another thread to stop, or allow it to run again
+	public void setStopped(boolean stopped)
+	{
+		this.stopRequested = stopped;
+	}
+
+	//Set which depths this search skips when searching one checker deeper at a time
+	public void setStagger(int skipSize, int skipPhase)
+	{
+		this.skipSize = skipSize;
+		this.skipPhase = skipPhase;
+	}
+
+	//Set the number of empty holes at which the search looks all the way to the end of the round
+	public void setEndgameDepth(int endgameDepth)
+	{
+		this.endgameDepth = endgameDepth;
+	}
+
+	public void setDepth(int depth)
+	{
+		this.depth = depth;
+	}
+
+	public int getDepth()
+	{
+		return this.depth;
+	}
+
+	//Determine if the last search ran out of time or was stopped before it finished
+	public boolean isStopped()
+	{
+		return this.stopped;
+	}
+
+	public int getScore()
+	{
+		return this.score;
+	}
+
+	public int getCompletedDepth()
+	{
+		return this.completedDepth;
+	}
+
+	public long getNodes()
+	{
+		return this.nodes;
+	}
+
+	//Get the number of positions visited per second in the last search
+	public long getNodesPerSecond()
+	{
+		return this.time == 0 ? 0 : this.nodes * 1000000000L / this.time;
+	}
+} //End of class
\ No newline at end of file
@@ -0,0 +1,58 @@
+//Simulation
+//Description: This program plays games between a random player and the computer without a GUI, and reports how many rounds are played per second.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+import java.util.*;
+
+public class Simulation
+{
+	//Usage: java Simulation [computer level] [number of games] [rounds per game]
+	public static void main(String[] args)
+	{
+		int level = args.length > 0 ? Integer.parseInt(args[0]) : 2;
+		int games = args.length > 1 ? Integer.parseInt(args[1]) : 10000;
+		int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+		Random random = new Random();
+		Model model = new Model(false); //No files are written
+		int[] results = new int[3]; //Rounds won by the player, drawn and won by the computer
+		long start = System.nanoTime();
+
+		for (int i = 0; i < games; i++)
+		{
+			model.newGame();
+			model.setMaxRound(rounds);
+			model.setLevel(level);
+
+			//Play each round of the game
+			while (!model.getGameOver())
+			{
+				//Place the player's checkers in random columns until the round is over
+				while (!model.getRoundOver())
+				{
+					model.place(random.nextInt(Position.WIDTH));
+				}
+
+				//Record the result of the round
+				switch (model.getWinner())
+				{
+					case "Player won":
+						results[0]++;
+						break;
+					case "Draw":
+						results[1]++;
+						break;
+					default:
+						results[2]++;
+				}
+
+				model.nextRound();
+			}
+		}
+
+		double seconds = (System.nanoTime() - start) / 1e9;
+		int total = games * rounds;
+		System.out.println("Level " + level + ": " + total + " rounds in " + String.format("%.2f", seconds) + " seconds");
+		System.out.println("Player won " + results[0] + ", draws " + results[1] + ", computer won " + results[2]);
+		System.out.println(String.format("%.0f", total / seconds) + " rounds per second");
+	}
+} //End of class
@@ -0,0 +1,437 @@
+//Solver
+//Description: This class solves a position, finding whether the side to move wins, draws or loses with perfect play and how many checkers it takes.
+//It searches with null windows, each of which only proves whether the score is above a value, and narrows the range of the score until it is exact.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+import java.util.*;
+
+public class Solver
+{
+	private static final int SIZE = Position.WIDTH * Position.HEIGHT; //Number of holes
+	private static final long COLUMN = (1L << Position.HEIGHT) - 1; //Holes of the first column
+
+	//A score is positive if the side to move wins, and higher the sooner it wins, it is the number of its checkers left unplaced when it connects four
+	//A score of 0 is a draw and a negative score is a loss, lower the sooner the opponent wins
+	private long[] table; //Upper bounds of scores, each entry is the key of the position shifted left by 8 bits plus the bound, 0 if the entry is empty
+	private long[][] moveLists = new long[SIZE][Position.WIDTH]; //Bits of the checkers to try after each number of checkers, reused so solving allocates nothing
+	private int[][] moveScores = new int[SIZE][Position.WIDTH]; //Scores the checkers are sorted by
+	private long nodeLimit; //Most positions one solve may visit, Long.MAX_VALUE means no limit
+	private long nodes; //Number of positions visited by the last solve
+	private long time; //Nanoseconds taken by the last solve
+	private boolean stopped; //If the last solve ran out of positions or was interrupted, in which case its result is unknown
+	private int score; //Score of the last solve from the side of its checker
+
+	//Create a solver with a table of about a number of megabytes
+	public Solver(int megabytes)
+	{
+		this.table = new long[largestPrime(megabytes * (1 << 17))]; //A prime size spreads the keys evenly, since the keys are not random
+		this.nodeLimit = Long.MAX_VALUE;
+	}
+
+	//Solve the position for the side with the checker and return its score, check isSolved() if there is a node limit
+	public int solve(Position position, int checker)
+	{
+		long start = System.nanoTime();
+		this.nodes = 0;
+		this.stopped = false;
+		this.score = this.solve(position.getBoard(checker), position.getBoard(1) | position.getBoard(2), position.getMoves());
+		this.time = System.nanoTime() - start;
+		return this.score;
+	}
+
+	//Find the best column for the side with the checker by solving every column, a win is played as quickly and a loss delayed as long as possible
+	//If a column cannot be solved within the node limit the best column found so far is returned
+	public int bestMove(Position position, int checker)
+	{
+		long start = System.nanoTime();
+		long current = position.getBoard(checker);
+		long mask = current | position.getBoard(3 - checker);
+		int moves = position.getMoves();
+		int best = -1;
+		this.nodes = 0;
+		this.stopped = false;
+		this.score = -SIZE;
+
+		//Check the columns from the center outwards, so the center wins a tie
+		for (int i = 0; i < Search.ORDER.length && !this.stopped; i++)
+		{
+			int column = Search.ORDER[i];
+
+			if (!position.canPlay(column))
+			{
+				continue;
+			}
+
+			//Determine if the column connects four, which no other column can beat
+			if (position.isWinningMove(column, checker))
+			{
+				best = column;
+				this.score = (SIZE + 1 - moves) / 2;
+				break;
+			}
+
+			long move = (mask + Position.BOTTOM) & (COLUMN << (column * Position.COLUMN_BITS));
+			int value = -this.solve(current ^ mask, mask | move, moves + 1);
+
+			if (!this.stopped && value > this.score)
+			{
+				best = column;
+				this.score = value;
+			}
+		}
+
+		this.time = System.nanoTime() - start;
+		return best;
+	}
+
+	//Narrow the range of the score with null window searches, trying values near 0 first since most positions are close to a draw
+	private int solve(long current, long mask, int moves)
+	{
+		//Determine if the side can connect four with its next checker
+		if ((MoveOrdering.winningHoles(current, mask) & (mask + Position.BOTTOM) & Position.BOARD) != 0)
+		{
+			return (SIZE + 1 - moves) / 2;
+		}
+
+		int min = -(SIZE - moves) / 2;
+		int max = (SIZE + 1 - moves) / 2;
+
+		while (min < max && !this.stopped)
+		{
+			int middle = min + (max - min) / 2;
+
+			if (middle <= 0 && min / 2 < middle)
+			{
+				middle = min / 2;
+			}
+			else if (middle >= 0 && max / 2 > middle)
+			{
+				middle = max / 2;
+			}
+
+			//Find out if the score is above the middle value
+			int value = this.negamax(current, mask, moves, middle, middle + 1);
+
+			if (value <= middle)
+			{
+				max = value;
+			}
+			else
+			{
+				min = value;
+			}
+		}
+
+		return min;
+	}
+
+	//Score the position of the side whose checkers are current, the side cannot connect four with its next checker
+	private int negamax(long current, long mask, int moves, int alpha, int beta)
+	{
+		this.nodes++;
+
+		//Check the node limit, and if the thread has been interrupted every 1024 positions
+		if (this.nodes > this.nodeLimit || ((this.nodes & 1023) == 0 && Thread.currentThread().isInterrupted()))
+		{
+			this.stopped = true;
+		}
+
+		if (this.stopped)
+		{
+			return 0;
+		}
+
+		long next = nonLosingMoves(current, mask);
+
+		//Determine if every checker lets the opponent connect four
+		if (next == 0)
+		{
+			return -(SIZE - moves) / 2;
+		}
+
+		//Determine if the board will be full before either side can connect four
+		if (moves >= SIZE - 2)
+		{
+			return 0;
+		}
+
+		//The opponent cannot win with its next checker, so the score is at least this
+		int min = -(SIZE - 2 - moves) / 2;
+
+		if (alpha < min)
+		{
+			alpha = min;
+
+			if (alpha >= beta)
+			{
+				return alpha;
+			}
+		}
+
+		//The side cannot win with its next checker, so the score is at most this, unless the table has a lower upper bound
+		int max = (SIZE - 1 - moves) / 2;
+		long key = current + mask;
+		long entry = this.table[(int) (key % this.table.length)];
+
+		if (entry != 0 && (entry >>> 8) == key)
+		{
+			max = (int) (entry & 0xFF) - SIZE;
+		}
+
+		if (beta > max)
+		{
+			beta = max;
+
+			if (alpha >= beta)
+			{
+				return beta;
+			}
+		}
+
+		long[] moveList = this.moveLists[moves];
+		int[] scores = this.moveScores[moves];
+		int count = 0;
+
+		//Sort the checkers by how many holes they make where the side could connect four, ties are kept from the center outwards
+		for (int i = 0; i < Search.ORDER.length; i++)
+		{
+			long move = next & (COLUMN << (Search.ORDER[i] * Position.COLUMN_BITS));
+
+			if (move == 0)
+			{
+				continue;
+			}
+
+			int score = Long.bitCount(MoveOrdering.winningHoles(current | move, mask | move));
+			int j = count;
+
+			while (j > 0 && scores[j - 1] < score)
+			{
+				moveList[j] = moveList[j - 1];
+				scores[j] = scores[j - 1];
+				j--;
+			}
+
+			moveList[j] = move;
+			scores[j] = score;
+			count++;
+		}
+
+		for (int i = 0; i < count; i++)
+		{
+			//The opponent's checkers become the current ones once the checker is placed
+			int value = -this.negamax(current ^ mask, mask | moveList[i], moves + 1, -beta, -alpha);
+
+			if (this.stopped)
+			{
+				return 0;
+			}
+
+			if (value >= beta)
+			{
+				return value;
+			}
+
+			if (value > alpha)
+			{
+				alpha = value;
+			}
+		}
+
+		//Remember that the score is at most alpha, shifted so the bound fits in 8 bits and is never 0
+		this.table[(int) (key % this.table.length)] = key << 8 | (alpha + SIZE);
+		return alpha;
+	}
+
+	//Find the holes the side can place a checker in without the opponent connecting four next, return 0 if there are none
+	private static long nonLosingMoves(long current, long mask)
+	{
+		long possible = (mask + Position.BOTTOM) & Position.BOARD; //Lowest empty hole of each column
+		long opponentWins = MoveOrdering.winningHoles(current ^ mask, mask);
+		long forced = possible & opponentWins; //Holes the side must fill to stop the opponent connecting four
+
+		if (forced != 0)
+		{
+			//Determine if the opponent has two holes to connect four with, in which case only one can be blocked
+			if ((forced & (forced - 1)) != 0)
+			{
+				return 0;
+			}
+
+			possible = forced;
+		}
+
+		return possible & ~(opponentWins >> 1); //Leave out holes right below one the opponent would connect four with
+	}
+
+	//Find the largest prime number at most n
+	private static int largestPrime(int n)
+	{
+		for (int i = n; ; i--)
+		{
+			boolean prime = i > 1;
+
+			for (int j = 2; (long) j * j <= i && prime; j++)
+			{
+				prime = i % j != 0;
+			}
+
+			if (prime)
+			{
+				return i;
+			}
+		}
+	}
+
+	//Find the number of checkers left to place until the round ends, from a score of a position with a number of checkers
+	public static int getDistance(int score, int moves)
+	{
+		//Determine if the side wins, in which case the score counts its checkers left unplaced when it connects four
+		if (score > 0)
+		{
+			return 2 * ((SIZE + 1 - moves) / 2 - score) + 1;
+		}
+
+		//Determine if the side loses, in which case the opponent wins one checker later
+		if (score < 0)
+		{
+			return 2 * ((SIZE - moves) / 2 + score) + 2;
+		}
+
+		return SIZE - moves;
+	}
+
+	//Accessor methods to set or get values of instance variables
+	//Set the most positions one solve may visit, Long.MAX_VALUE means no limit
+	public void setNodeLimit(long nodeLimit)
+	{
+		this.nodeLimit = nodeLimit;
+	}
+
+	//Forget the bounds of every position
+	public void clear()
+	{
+		Arrays.fill(this.table, 0L);
+	}
+
+	//Determine if the last solve finished, otherwise its score and column cannot be trusted
+	public boolean isSolved()
+	{
+		return !this.stopped;
+	}
+
+	public int getScore()
+	{
+		return this.score;
+	}
+
+	public long getNodes()
+	{
+		return this.nodes;
+	}
+
+	public long getTime()
+	{
+		return this.time;
+	}
+
+	//Get the number of positions visited per second in the last solve
+	public long getNodesPerSecond()
+	{
+		return this.time == 0 ? 0 : this.nodes * 1000000000L / this.time;
+	}
+
+	//Usage: java Solver [positions per set] [columns of a position to solve, numbered from 1]
+	//Solves sets of random positions from the end, middle and beginning of a round and prints the average time of each set, or solves one position
+	public static void main(String[] args)
+	{
+		int count = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+		Solver solver = new Solver(64);
+
+		//Determine if a single position has been given
+		if (args.length > 1)
+		{
+			Position position = Position.fromMoves(args[1]);
+			int checker = position.getMoves() % 2 + 1;
+			int column = solver.bestMove(position, checker);
+			System.out.println("Score " + solver.getScore() + ", round ends in " + getDistance(solver.getScore(), position.getMoves()) + " checkers, best column " + (column + 1));
+			System.out.printf("%d positions in %.3f seconds, %d per second%n", solver.getNodes(), solver.getTime() / 1e9, solver.getNodesPerSecond());
+			return;
+		}
+
+		String[] names = {"End", "Middle", "Beginning"};
+		int[][] ranges = {{28, 35}, {14, 27}, {8, 13}}; //Fewest and most checkers of the positions in each set
+		SplittableRandom random = new SplittableRandom(42); //Use the same positions every run
+
+		System.out.printf("%-10s %9s %12s %14s %14s%n", "Set", "Checkers", "Mean ms", "Mean positions", "Per second");
+
+		for (int i = 0; i < names.length; i++)
+		{
+			long totalTime = 0;
+			long totalNodes = 0;
+
+			for (int j = 0; j < count; j++)
+			{
+				Position position = randomPosition(random, ranges[i][0] + random.nextInt(ranges[i][1] - ranges[i][0] + 1));
+				solver.clear(); //Each position is solved from an empty table
+				solver.solve(position, position.getMoves() % 2 + 1);
+				totalTime += solver.getTime();
+				totalNodes += solver.getNodes();
+			}
+
+			System.out.printf("%-10s %4d-%-4d %12.3f %14d %14d%n", names[i], ranges[i][0], ranges[i][1], totalTime / 1e6 / count, totalNodes / count, totalTime == 0 ? 0 : totalNodes * 1000000000L / totalTime);
+		}
+	}
+
+	//Play random columns until a number of checkers are placed, leaving out columns after which the opponent could connect four with its next checker
+	private static Position randomPosition(SplittableRandom random, int moves)
+	{
+		Position position = new Position();
+
+		while (position.getMoves() < moves)
+		{
+			int checker = position.getMoves() % 2 + 1;
+			int column = random.nextInt(Position.WIDTH);
+			boolean safe = false; //If any column can be played
+
+			//Try each column starting from a random one
+			for (int i = 0; i < Position.WIDTH && !safe; i++)
+			{
+				int next = (column + i) % Position.WIDTH;
+
+				if (position.canPlay(next) && !position.isWinningMove(next, checker))
+				{
+					position.drop(next, checker);
+					safe = !canWinNext(position, 3 - checker);
+
+					if (!safe)
+					{
+						position.undo(next);
+					}
+				}
+			}
+
+			//Determine if every column ends the round or is about to, in which case a new round is started
+			if (!safe)
+			{
+				position.clear();
+			}
+		}
+
+		return position;
+	}
+
+	//Determine if the side with the checker can connect four with its next checker
+	private static boolean canWinNext(Position position, int checker)
+	{
+		for (int i = 0; i < Position.WIDTH; i++)
+		{
+			if (position.canPlay(i) && position.isWinningMove(i, checker))
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+} //End of class
\ No newline at end of file
@@ -0,0 +1,47 @@
+//SpeedupBenchmark
+//Description: This program measures how much faster the parallel search reaches a fixed depth as threads are added.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+
+public class SpeedupBenchmark
+{
+	//Positions from the opening and middle of a round, as columns numbered from 1
+	private static final String[] POSITIONS = {"", "4", "44", "4453", "443355", "46536", "7615616", "44444432", "455212475", "123456712345"};
+
+	//Usage: java SpeedupBenchmark [depth] [maximum threads]
+	public static void main(String[] args)
+	{
+		int depth = args.length > 0 ? Integer.parseInt(args[0]) : 12;
+		int maxThreads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+		double baseline = 0; //Seconds taken by one thread
+
+		System.out.println("Time to depth " + depth + " over " + POSITIONS.length + " positions");
+		System.out.println("Threads\tSeconds\tSpeedup\tNodes per second");
+
+		for (int threads = 1; threads <= maxThreads; threads++)
+		{
+			long time = 0;
+			long nodes = 0;
+
+			for (int i = 0; i < POSITIONS.length; i++)
+			{
+				ParallelSearch search = new ParallelSearch(threads, 64); //A new table for each position so earlier searches do not help
+				Position position = Position.fromMoves(POSITIONS[i]);
+				long start = System.nanoTime();
+				search.bestMove(position, position.getMoves() % 2 + 1, 0, depth);
+				time += System.nanoTime() - start;
+				nodes += search.getNodes();
+				search.close();
+			}
+
+			double seconds = time / 1e9;
+
+			if (threads == 1)
+			{
+				baseline = seconds;
+			}
+
+			System.out.printf("%d\t%.3f\t%.2f\t%d%n", threads, seconds, baseline / seconds, (long) (nodes / seconds));
+		}
+	}
+} //End of class
@@ -1,8 +1,9 @@
 //Startup
 //Description: This program is a Connect 4 game where the user plays against the computer.
 //Created By: Wentan Su
-//Last Modified: Jan 13, 2023
+//Last Modified: Oct 18, 2026
 import javax.swing.*;
+import java.awt.event.*;
 
 public class Startup
 {
@@ -14,7 +15,17 @@ public class Startup
 		//Initialize window
 		JFrame window = new JFrame("Connect 4");
 		window.setLocation(300, 100);
-	    window.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+	    window.setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
+
+		//Exit through the Model so results waiting to be written are not lost
+		window.addWindowListener(new WindowAdapter()
+		{
+			public void windowClosing(WindowEvent e)
+			{
+				model.exit();
+			}
+		});
+
 		window.setContentPane(view);
 		window.pack();
 		window.setVisible(true);
@@ -0,0 +1,89 @@
+//TableEvaluator
+//Description: This class scores a position by how many ways of connecting four pass through each hole that a side holds.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+
+public class TableEvaluator implements Evaluator
+{
+	private static final int[] WEIGHTS = new int[14]; //Weight of the holes on each mask
+	private static final long[] MASKS = new long[14]; //Masks of the holes that share the same weight
+	private static int maskCount = 0;
+
+	//Group the holes by the number of lines of four that pass through them
+	static
+	{
+		int[][] lines = new int[Position.HEIGHT][Position.WIDTH];
+
+		for (int row = 0; row < Position.HEIGHT; row++)
+		{
+			for (int column = 0; column < Position.WIDTH; column++)
+			{
+				lines[row][column] = countLines(row, column);
+			}
+		}
+
+		for (int row = 0; row < Position.HEIGHT; row++)
+		{
+			for (int column = 0; column < Position.WIDTH; column++)
+			{
+				long bit = 1L << (column * Position.COLUMN_BITS + Position.HEIGHT - 1 - row);
+				int index = 0;
+
+				//Find the mask for this weight, or add a new one
+				while (index < maskCount && WEIGHTS[index] != lines[row][column])
+				{
+					index++;
+				}
+
+				if (index == maskCount)
+				{
+					WEIGHTS[index] = lines[row][column];
+					maskCount++;
+				}
+
+				MASKS[index] |= bit;
+			}
+		}
+	}
+
+	public int evaluate(Position position, int checker)
+	{
+		long own = position.getBoard(checker);
+		long other = position.getBoard(3 - checker);
+		int score = 0;
+
+		for (int i = 0; i < maskCount; i++)
+		{
+			score += WEIGHTS[i] * (Long.bitCount(own & MASKS[i]) - Long.bitCount(other & MASKS[i]));
+		}
+
+		return score;
+	}
+
+	//Count the lines of four holes on the board which include a hole
+	private static int countLines(int row, int column)
+	{
+		int[][] directions = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+		int count = 0;
+
+		for (int i = 0; i < directions.length; i++)
+		{
+			//Check each line of four which starts up to three holes before this one
+			for (int j = 0; j < 4; j++)
+			{
+				int startRow = row - j * directions[i][0];
+				int startColumn = column - j * directions[i][1];
+				int endRow = startRow + 3 * directions[i][0];
+				int endColumn = startColumn + 3 * directions[i][1];
+
+				if (startRow >= 0 && startRow < Position.HEIGHT && endRow >= 0 && endRow < Position.HEIGHT
+						&& startColumn >= 0 && startColumn < Position.WIDTH && endColumn >= 0 && endColumn < Position.WIDTH)
+				{
+					count++;
+				}
+			}
+		}
+
+		return count;
+	}
+} //End of class
@@ -0,0 +1,168 @@
+//ThreatEvaluator
+//Description: This class scores a position by the lines of four each side can still complete, open three in a rows whose empty hole is on a row that suits the side, and checkers near the centre.
+//The score is kept up to date as checkers are added and removed, so scoring a position only looks at the lines through the holes that changed since the last one.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+import java.util.*;
+
+public class ThreatEvaluator implements Evaluator
+{
+	private static final int[] LINE_WEIGHTS = {0, 1, 4, 32, 1000}; //Score of a line holding a number of one side's checkers and none of the other's
+	private static final int PARITY_WEIGHT = 48; //Extra score of an open three whose empty hole is on a row that suits the side
+	private static final int[] CENTER_WEIGHTS = {0, 1, 2, 4, 2, 1, 0}; //Score of a checker in each column
+	private static final long[] LINES; //Holes of every line of four on the board
+	private static final int[][] HOLE_LINES = new int[Position.WIDTH * Position.COLUMN_BITS][]; //Lines which pass through each hole
+
+	private long playerBoard; //Checkers the score was last brought up to date with
+	private long computerBoard;
+	private int[] playerCounts = new int[LINES.length]; //Number of the player's checkers in each line
+	private int[] computerCounts = new int[LINES.length]; //Number of the computer's checkers in each line
+	private int score; //Score from the player's side
+
+	//Find every line of four and the lines through each hole
+	static
+	{
+		int[][] directions = {{1, 0}, {0, 1}, {1, 1}, {1, -1}}; //Steps in columns and heights
+		ArrayList<Long> lines = new ArrayList<Long>();
+
+		for (int column = 0; column < Position.WIDTH; column++)
+		{
+			for (int height = 0; height < Position.HEIGHT; height++)
+			{
+				for (int i = 0; i < directions.length; i++)
+				{
+					int endColumn = column + 3 * directions[i][0];
+					int endHeight = height + 3 * directions[i][1];
+
+					//Determine if the line of four starting at this hole stays on the board
+					if (endColumn < Position.WIDTH && endHeight >= 0 && endHeight < Position.HEIGHT)
+					{
+						long line = 0L;
+
+						for (int j = 0; j < 4; j++)
+						{
+							line |= 1L << ((column + j * directions[i][0]) * Position.COLUMN_BITS + height + j * directions[i][1]);
+						}
+
+						lines.add(line);
+					}
+				}
+			}
+		}
+
+		LINES = new long[lines.size()];
+
+		for (int i = 0; i < LINES.length; i++)
+		{
+			LINES[i] = lines.get(i);
+		}
+
+		for (int hole = 0; hole < HOLE_LINES.length; hole++)
+		{
+			int count = 0;
+
+			for (int i = 0; i < LINES.length; i++)
+			{
+				if ((LINES[i] & (1L << hole)) != 0)
+				{
+					count++;
+				}
+			}
+
+			HOLE_LINES[hole] = new int[count];
+			count = 0;
+
+			for (int i = 0; i < LINES.length; i++)
+			{
+				if ((LINES[i] & (1L << hole)) != 0)
+				{
+					HOLE_LINES[hole][count++] = i;
+				}
+			}
+		}
+	}
+
+	//Score the position from the side of the checker, after bringing the score up to date with the checkers added and removed since the last position
+	public int evaluate(Position position, int checker)
+	{
+		this.update(position);
+		return checker == 1 ? this.score : -this.score;
+	}
+
+	//Bring the score up to date with the checkers of a position, each changed hole only rescores the lines through it
+	public void update(Position position)
+	{
+		long player = position.getBoard(1);
+		long computer = position.getBoard(2);
+
+		for (long changed = this.playerBoard ^ player; changed != 0; changed &= changed - 1)
+		{
+			this.change(Long.numberOfTrailingZeros(changed), 1, (player & changed & -changed) != 0);
+		}
+
+		for (long changed = this.computerBoard ^ computer; changed != 0; changed &= changed - 1)
+		{
+			this.change(Long.numberOfTrailingZeros(changed), 2, (computer & changed & -changed) != 0);
+		}
+	}
+
+	//Add or remove a checker in a hole, taking the old score of each line through it away before adding its new score
+	private void change(int hole, int checker, boolean added)
+	{
+		int[] lines = HOLE_LINES[hole];
+		int[] counts = checker == 1 ? this.playerCounts : this.computerCounts;
+		int step = added ? 1 : -1;
+
+		for (int i = 0; i < lines.length; i++)
+		{
+			this.score -= this.scoreLine(lines[i]);
+		}
+
+		if (checker == 1)
+		{
+			this.playerBoard ^= 1L << hole;
+		}
+		else
+		{
+			this.computerBoard ^= 1L << hole;
+		}
+
+		for (int i = 0; i < lines.length; i++)
+		{
+			counts[lines[i]] += step;
+			this.score += this.scoreLine(lines[i]);
+		}
+
+		int center = CENTER_WEIGHTS[hole / Position.COLUMN_BITS] * step;
+		this.score += checker == 1 ? center : -center;
+	}
+
+	//Score a line from the player's side, a line holding checkers of both sides can never be completed and is worth nothing
+	private int scoreLine(int line)
+	{
+		int player = this.playerCounts[line];
+		int computer = this.computerCounts[line];
+
+		if (player > 0 && computer > 0 || player + computer == 0)
+		{
+			return 0;
+		}
+
+		int count = player + computer;
+		int value = LINE_WEIGHTS[count];
+
+		//Determine if the line is an open three, the player moves first and is helped by an empty hole on an odd row counted from the bottom, the computer by one on an even row
+		if (count == 3)
+		{
+			long empty = LINES[line] & ~(this.playerBoard | this.computerBoard);
+			int height = Long.numberOfTrailingZeros(empty) % Position.COLUMN_BITS;
+
+			if ((height % 2 == 0) == (player > 0))
+			{
+				value += PARITY_WEIGHT;
+			}
+		}
+
+		return player > 0 ? value : -value;
+	}
+} //End of class
\ No newline at end of file
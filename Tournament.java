@@ -0,0 +1,271 @@
+//Tournament
+//Description: This program plays computer levels against each other on all processors and estimates the Elo rating of each level.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+import java.util.*;
+import java.util.concurrent.*;
+
+public class Tournament
+{
+	private static final int BATCH = 256; //Number of games played by one task before it is split no further
+
+	//Plays a range of games between two levels, splitting the range across the fork-join pool
+	private static class Match extends RecursiveTask<long[]>
+	{
+		private static final long serialVersionUID = 1L;
+
+		private int first; //Level of the first computer
+		private int second; //Level of the second computer
+		private int start; //Index of the first game of the range, even games are started by the first computer
+		private int end;
+		private int openingMoves; //Number of random checkers placed at the start of each game so that games differ
+		private SplittableRandom random;
+
+		public Match(int first, int second, int start, int end, int openingMoves, SplittableRandom random)
+		{
+			this.first = first;
+			this.second = second;
+			this.start = start;
+			this.end = end;
+			this.openingMoves = openingMoves;
+			this.random = random;
+		}
+
+		//Return the wins of the first computer, the draws and the wins of the second computer
+		protected long[] compute()
+		{
+			//Determine if the range is small enough to play on this thread
+			if (this.end - this.start <= BATCH)
+			{
+				return this.play();
+			}
+
+			int middle = (this.start + this.end) >>> 1;
+			Match left = new Match(this.first, this.second, this.start, middle, this.openingMoves, this.random.split());
+			Match right = new Match(this.first, this.second, middle, this.end, this.openingMoves, this.random);
+			left.fork();
+			long[] results = right.compute();
+			long[] leftResults = left.join();
+
+			for (int i = 0; i < results.length; i++)
+			{
+				results[i] += leftResults[i];
+			}
+
+			return results;
+		}
+
+		//Play every game of the range
+		private long[] play()
+		{
+			long[] results = new long[3];
+			Computer[] computers = {new Computer(this.first, this.random.split()), new Computer(this.second, this.random.split())};
+			Position position = new Position();
+
+			for (int game = this.start; game < this.end; game++)
+			{
+				int firstChecker = game % 2 + 1; //Checker of the first computer, checker 1 moves first
+				int winner = playGame(position, computers, firstChecker, this.openingMoves, this.random);
+
+				if (winner == 0)
+				{
+					results[1]++;
+				}
+				else
+				{
+					results[winner == firstChecker ? 0 : 2]++;
+				}
+			}
+
+			//Stop the threads the computers search and ponder with, each range of games has its own computers
+			for (int i = 0; i < computers.length; i++)
+			{
+				computers[i].close();
+			}
+
+			return results;
+		}
+	}
+
+	//Play one game and return the checker of the winner, or 0 for a draw
+	private static int playGame(Position position, Computer[] computers, int firstChecker, int openingMoves, SplittableRandom random)
+	{
+		position.clear();
+
+		while (true)
+		{
+			int checker = position.getMoves() % 2 + 1;
+			int column;
+
+			//Determine if the game is still in its random opening
+			if (position.getMoves() < openingMoves)
+			{
+				do
+				{
+					column = random.nextInt(Position.WIDTH);
+				}
+				while (!position.canPlay(column));
+			}
+			else
+			{
+				column = computers[checker == firstChecker ? 0 : 1].chooseColumn(position, checker);
+			}
+
+			//Determine if the checker connects four
+			if (position.isWinningMove(column, checker))
+			{
+				return checker;
+			}
+
+			position.drop(column, checker);
+
+			if (position.isFull())
+			{
+				return 0;
+			}
+		}
+	}
+
+	//Usage: java Tournament [levels separated by commas] [games per pair] [random opening moves]
+	public static void main(String[] args)
+	{
+		String[] names = (args.length > 0 ? args[0] : "1,2,3").split(",");
+		int games = args.length > 1 ? Integer.parseInt(args[1]) : 100000;
+		int openingMoves = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+		int[] levels = new int[names.length];
+
+		for (int i = 0; i < names.length; i++)
+		{
+			levels[i] = Integer.parseInt(names[i].trim());
+		}
+
+		ForkJoinPool pool = ForkJoinPool.commonPool();
+		SplittableRandom random = new SplittableRandom();
+		long[][][] results = new long[levels.length][levels.length][]; //Wins, draws and losses of each level against each other level
+		long start = System.nanoTime();
+
+		//Play every pair of levels
+		for (int i = 0; i < levels.length; i++)
+		{
+			for (int j = i + 1; j < levels.length; j++)
+			{
+				long[] match = pool.invoke(new Match(levels[i], levels[j], 0, games, openingMoves, random.split()));
+				results[i][j] = match;
+				results[j][i] = new long[] {match[2], match[1], match[0]};
+			}
+		}
+
+		double seconds = (System.nanoTime() - start) / 1e9;
+		long total = (long) games * levels.length * (levels.length - 1) / 2;
+
+		//Print the wins, draws and losses of each level, read by row
+		System.out.println("Win/draw/loss of each row against each column");
+		System.out.print("Level");
+
+		for (int j = 0; j < levels.length; j++)
+		{
+			System.out.print("\t" + levels[j]);
+		}
+
+		System.out.println();
+
+		for (int i = 0; i < levels.length; i++)
+		{
+			System.out.print(levels[i]);
+
+			for (int j = 0; j < levels.length; j++)
+			{
+				System.out.print(i == j ? "\t-" : "\t" + results[i][j][0] + "/" + results[i][j][1] + "/" + results[i][j][2]);
+			}
+
+			System.out.println();
+		}
+
+		//Print the Elo difference of each pair with a 95% confidence interval
+		System.out.println();
+		System.out.println("Elo difference of each pair");
+
+		for (int i = 0; i < levels.length; i++)
+		{
+			for (int j = i + 1; j < levels.length; j++)
+			{
+				double[] elo = eloDifference(results[j][i]);
+				System.out.printf("%d vs %d: %+.0f (95%% interval %+.0f to %+.0f)%n", levels[j], levels[i], elo[0], elo[1], elo[2]);
+			}
+		}
+
+		//Print a rating for each level, with the first level at 0
+		double[] ratings = fitRatings(results);
+		System.out.println();
+		System.out.println("Ratings");
+
+		for (int i = 0; i < levels.length; i++)
+		{
+			System.out.printf("Level %d: %.0f%n", levels[i], ratings[i] - ratings[0]);
+		}
+
+		System.out.println();
+		System.out.printf("%d games in %.2f seconds, %.0f games per second on %d threads%n", total, seconds, total / seconds, pool.getParallelism());
+
+		//Determine if the searching levels used an opening book
+		if (OpeningBook.getShared() != null && OpeningBook.getShared().getLookups() > 0)
+		{
+			System.out.printf("Opening book hit rate %.1f%% over %d lookups%n", 100 * OpeningBook.getShared().getHitRate(), OpeningBook.getShared().getLookups());
+		}
+	}
+
+	//Estimate the Elo difference from wins, draws and losses, return the estimate and the bounds of its 95% confidence interval
+	private static double[] eloDifference(long[] result)
+	{
+		double games = result[0] + result[1] + result[2];
+		double score = (result[0] + 0.5 * result[1]) / games;
+
+		//Standard error of the mean score of one game
+		double variance = (result[0] * Math.pow(1 - score, 2) + result[1] * Math.pow(0.5 - score, 2) + result[2] * Math.pow(score, 2)) / games;
+		double error = Math.sqrt(variance / games);
+
+		return new double[] {elo(score, games), elo(score - 1.96 * error, games), elo(score + 1.96 * error, games)};
+	}
+
+	//Convert a mean score to an Elo difference, scores of 0 and 1 are kept half a game away so the difference stays finite
+	private static double elo(double score, double games)
+	{
+		double limit = 0.5 / games;
+		score = Math.max(limit, Math.min(1 - limit, score));
+		return -400 * Math.log10(1 / score - 1);
+	}
+
+	//Find ratings for which the expected scores best match the results of all pairs, one extra drawn game per pair keeps unbeaten levels finite
+	private static double[] fitRatings(long[][][] results)
+	{
+		double[] ratings = new double[results.length];
+
+		for (int iteration = 0; iteration < 10000; iteration++)
+		{
+			for (int i = 0; i < results.length; i++)
+			{
+				double score = 0;
+				double expected = 0;
+				double games = 0;
+
+				for (int j = 0; j < results.length; j++)
+				{
+					if (i == j)
+					{
+						continue;
+					}
+
+					double played = results[i][j][0] + results[i][j][1] + results[i][j][2] + 1;
+					score += results[i][j][0] + 0.5 * results[i][j][1] + 0.5;
+					expected += played / (1 + Math.pow(10, (ratings[j] - ratings[i]) / 400));
+					games += played;
+				}
+
+				//Move the rating towards the one that would have been expected to score this much
+				ratings[i] += Math.max(-50, Math.min(50, 800 * (score - expected) / Math.max(games, 1)));
+			}
+		}
+
+		return ratings;
+	}
+} //End of class
\ No newline at end of file
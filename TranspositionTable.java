@@ -0,0 +1,137 @@
+//TranspositionTable
+//Description: This class remembers the scores of searched positions in a fixed amount of memory so the search does not repeat itself.
+//Several searches may share the table without locks, each key is stored xor-ed with its data so a slot that is half written by another thread is never mistaken for a match.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+
+public class TranspositionTable
+{
+	//Types of scores, an exact score or a bound from an alpha-beta cutoff
+	public static final int EXACT = 0;
+	public static final int LOWER = 1;
+	public static final int UPPER = 2;
+
+	//Replacement policies for a slot that is already in use
+	public static final int DEPTH_PREFERRED = 0;
+	public static final int ALWAYS_REPLACE = 1;
+
+	private static final long USED = 1L << 46; //Bit set in the data of every stored entry
+
+	private long[] keys; //Hash of the position in each slot, xor-ed with the data
+	private long[] data; //Score, depth, type and best column packed into each slot
+	private int mask; //Number of slots minus one, used to find a slot from a hash
+	private int policy;
+	private long hits; //The counters are not synchronized, so they are approximate when the table is shared
+	private long misses;
+	private long collisions; //Lookups that found a different position in the slot
+
+	//Create a table using up to the given number of megabytes
+	public TranspositionTable(int megabytes, int policy)
+	{
+		long bytes = (long) megabytes << 20;
+		int size = Integer.highestOneBit((int) Math.min(bytes / 16, 1 << 30)); //Each slot uses two longs
+
+		this.keys = new long[size];
+		this.data = new long[size];
+		this.mask = size - 1;
+		this.policy = policy;
+	}
+
+	//Look up a position, return its packed data or 0 if it is not in the table
+	public long probe(long hash)
+	{
+		int slot = (int) hash & this.mask;
+		long entry = this.data[slot];
+
+		//Determine if the slot holds this position
+		if (entry != 0 && (this.keys[slot] ^ entry) == hash)
+		{
+			this.hits++;
+			return entry;
+		}
+
+		//Determine if another position is using the slot
+		if (entry != 0)
+		{
+			this.collisions++;
+		}
+
+		this.misses++;
+		return 0;
+	}
+
+	//Store the result of searching a position
+	public void store(long hash, int score, int depth, int type, int column)
+	{
+		int slot = (int) hash & this.mask;
+
+		long entry = this.data[slot];
+
+		//Determine if a deeper result of another position should be kept
+		if (this.policy == DEPTH_PREFERRED && entry != 0 && (this.keys[slot] ^ entry) != hash && getDepth(entry) > depth)
+		{
+			return;
+		}
+
+		entry = (score & 0xFFFFFFFFL) | ((long) depth << 32) | ((long) type << 40) | ((long) (column + 1) << 42) | USED;
+		this.data[slot] = entry;
+		this.keys[slot] = hash ^ entry;
+	}
+
+	//Empty the table and reset the counters
+	public void clear()
+	{
+		for (int i = 0; i <= this.mask; i++)
+		{
+			this.keys[i] = 0;
+			this.data[i] = 0;
+		}
+
+		this.hits = 0;
+		this.misses = 0;
+		this.collisions = 0;
+	}
+
+	//Methods to unpack the data returned by probe
+	public static int getScore(long entry)
+	{
+		return (int) entry;
+	}
+
+	public static int getDepth(long entry)
+	{
+		return (int) (entry >>> 32) & 0xFF;
+	}
+
+	public static int getType(long entry)
+	{
+		return (int) (entry >>> 40) & 0x3;
+	}
+
+	//Get the best column, or -1 if none was found
+	public static int getColumn(long entry)
+	{
+		return ((int) (entry >>> 42) & 0xF) - 1;
+	}
+
+	//Accessor methods to get values of instance variables
+	public int getSize()
+	{
+		return this.mask + 1;
+	}
+
+	public long getHits()
+	{
+		return this.hits;
+	}
+
+	public long getMisses()
+	{
+		return this.misses;
+	}
+
+	public long getCollisions()
+	{
+		return this.collisions;
+	}
+} //End of class
\ No newline at end of file
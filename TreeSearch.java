@@ -0,0 +1,411 @@
+//TreeSearch
+//Description: This class finds the best column with a Monte Carlo tree search, which plays many random rounds from the position and grows a tree towards the columns that win most often.
+//The tree is stored in arrays indexed by node number rather than as node objects, and can be grown by several threads at once, each adding a virtual loss to the nodes it is visiting so the others spread out.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+public class TreeSearch
+{
+	private static final double EXPLORATION = 1.4; //Weight of trying columns that have been played less, the square root of 2 in theory
+	private static final int VIRTUAL_LOSS = 3; //Losses added to a node while a thread is visiting it
+	private static final int UNEXPANDED = 0; //States of a node
+	private static final int EXPANDING = 1;
+	private static final int EXPANDED = 2;
+	private static final byte OPEN = 0; //Results of a node which ends the round
+	private static final byte WIN = 1;
+	private static final byte DRAW = 2;
+
+	//Nodes of the tree, the root is node 0 and the children of a node are stored one after another
+	private int[] firstChild; //Node number of the first child
+	private byte[] childCount; //Number of children
+	private byte[] columns; //Column played to reach the node
+	private byte[] results; //If the checker placed to reach the node ends the round
+	private AtomicIntegerArray states; //If the children of the node have been added, a thread adding them marks the node first
+	private AtomicIntegerArray visits; //Number of rounds played through the node, including virtual losses
+	private AtomicIntegerArray points; //Points scored by the side that placed the checker reaching the node, 2 for a win and 1 for a draw
+	private AtomicInteger size = new AtomicInteger(); //Number of nodes in use
+
+	private int threads;
+	private ExecutorService helpers; //Threads that grow the tree besides the calling thread, null if there is only one thread
+	private AtomicLong playouts = new AtomicLong(); //Number of random rounds played for the last move
+	private long time; //Nanoseconds taken by the last move
+	private volatile boolean stopRequested; //If the helpers have been asked to stop
+
+	public TreeSearch(int threads, int capacity)
+	{
+		this.threads = threads;
+		this.firstChild = new int[capacity];
+		this.childCount = new byte[capacity];
+		this.columns = new byte[capacity];
+		this.results = new byte[capacity];
+		this.states = new AtomicIntegerArray(capacity);
+		this.visits = new AtomicIntegerArray(capacity);
+		this.points = new AtomicIntegerArray(capacity);
+
+		//Helper threads are daemons so they never keep the program running, they are kept until close() is called
+		if (threads > 1)
+		{
+			this.helpers = Executors.newFixedThreadPool(threads - 1, runnable ->
+			{
+				Thread thread = new Thread(runnable, "Tree search helper");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	//Find the best column for the side with the checker by playing random rounds until the time in milliseconds or the number of rounds runs out, 0 means there is no limit
+	//The tree is started again for every move, so the position is not required to follow the last one
+	public int bestMove(Position position, int checker, long millis, long maxPlayouts)
+	{
+		long start = System.nanoTime();
+		long deadline = millis == 0 ? Long.MAX_VALUE : start + millis * 1000000L;
+		long limit = maxPlayouts == 0 ? Long.MAX_VALUE : maxPlayouts;
+		CountDownLatch finished = new CountDownLatch(this.threads - 1); //Counts the helpers that have stopped
+
+		//Clear the root, the other nodes are cleared as they are added
+		this.size.set(1);
+		this.clearNode(0, -1);
+		this.playouts.set(0);
+		this.stopRequested = false;
+
+		for (int i = 1; i < this.threads; i++)
+		{
+			Position copy = new Position(position);
+			SplittableRandom random = new SplittableRandom(start + i);
+
+			this.helpers.execute(() ->
+			{
+				try
+				{
+					this.grow(copy, checker, deadline, limit, random);
+				}
+				finally
+				{
+					finished.countDown();
+				}
+			});
+		}
+
+		this.grow(position, checker, deadline, limit, new SplittableRandom(start));
+		this.stopRequested = true;
+
+		//Wait for the helpers even if the move has been cancelled, so none of them is still growing the tree when the next move clears it
+		boolean interrupted = false;
+
+		while (true)
+		{
+			try
+			{
+				finished.await();
+				break;
+			}
+			catch (InterruptedException e)
+			{
+				interrupted = true;
+			}
+		}
+
+		if (interrupted)
+		{
+			Thread.currentThread().interrupt();
+		}
+
+		this.time = System.nanoTime() - start;
+		return this.mostVisited(position);
+	}
+
+	//Play random rounds from the root until a limit is reached, the position is left unchanged
+	private void grow(Position position, int checker, long deadline, long limit, SplittableRandom random)
+	{
+		int[] path = new int[Position.WIDTH * Position.HEIGHT + 1]; //Nodes visited from the root in this round
+		int rootMoves = position.getMoves(); //Checkers on the board before each round, the rest are undone once it is over
+		long rounds = 0; //Rounds played by this thread, the shared count may skip past any multiple while other threads add to it
+
+		while (!this.stopRequested && this.playouts.get() < limit)
+		{
+			//Check the time and if the move has been cancelled every 64 rounds of this thread
+			if ((rounds++ & 63) == 0 && (System.nanoTime() > deadline || Thread.currentThread().isInterrupted()))
+			{
+				break;
+			}
+
+			int node = 0;
+			int length = 0;
+			int side = checker; //Side to move at the node
+			path[length++] = node;
+			this.visits.addAndGet(node, VIRTUAL_LOSS);
+
+			//Walk down the tree, each step choosing the child with the best upper confidence bound
+			while (this.results[node] == OPEN && this.states.get(node) == EXPANDED && this.childCount[node] > 0)
+			{
+				node = this.select(node);
+				this.visits.addAndGet(node, VIRTUAL_LOSS);
+				path[length++] = node;
+				position.drop(this.columns[node], side);
+				side = 3 - side;
+			}
+
+			int winner; //Side that wins the round, 0 for a draw
+
+			//Determine if the node ends the round, otherwise its children are added and a random round is played from it
+			if (this.results[node] != OPEN)
+			{
+				winner = this.results[node] == WIN ? 3 - side : 0;
+			}
+			else
+			{
+				//Only one thread adds the children of a node, another thread that reaches it at the same time plays a random round from it instead
+				if (this.states.compareAndSet(node, UNEXPANDED, EXPANDING))
+				{
+					this.expand(node, position, side);
+				}
+
+				winner = this.playout(position, side, random);
+			}
+
+			//Undo every checker placed in this round, including those of the random round
+			while (position.getMoves() > rootMoves)
+			{
+				position.undo();
+			}
+
+			//Replace the virtual losses with the result, each node scores for the side that placed its checker
+			for (int i = length - 1; i >= 0; i--)
+			{
+				side = 3 - side;
+				this.visits.addAndGet(path[i], 1 - VIRTUAL_LOSS);
+				this.points.addAndGet(path[i], winner == 0 ? 1 : winner == side ? 2 : 0);
+			}
+
+			this.playouts.incrementAndGet();
+		}
+	}
+
+	//Find the child of a node with the best upper confidence bound, a child that has never been visited is chosen first
+	private int select(int node)
+	{
+		int first = this.firstChild[node];
+		double logVisits = Math.log(Math.max(this.visits.get(node), 1));
+		double bestValue = Double.NEGATIVE_INFINITY;
+		int best = first;
+
+		for (int child = first; child < first + this.childCount[node]; child++)
+		{
+			int visits = this.visits.get(child);
+
+			if (visits == 0)
+			{
+				return child;
+			}
+
+			double value = this.points.get(child) / (2.0 * visits) + EXPLORATION * Math.sqrt(logVisits / visits);
+
+			if (value > bestValue)
+			{
+				bestValue = value;
+				best = child;
+			}
+		}
+
+		return best;
+	}
+
+	//Add a child to a node for each column the side can play, if the tree is full the node is left without children
+	private void expand(int node, Position position, int side)
+	{
+		int count = 0;
+
+		for (int i = 0; i < Position.WIDTH; i++)
+		{
+			if (position.canPlay(i))
+			{
+				count++;
+			}
+		}
+
+		int first = this.size.getAndAdd(count);
+
+		//Determine if there is room for the children
+		if (first + count <= this.firstChild.length)
+		{
+			int child = first;
+
+			for (int i = 0; i < Search.ORDER.length; i++)
+			{
+				int column = Search.ORDER[i];
+
+				if (!position.canPlay(column))
+				{
+					continue;
+				}
+
+				this.clearNode(child, column);
+
+				//Determine if the column ends the round
+				if (position.isWinningMove(column, side))
+				{
+					this.results[child] = WIN;
+				}
+				else if (position.getMoves() + 1 == Position.WIDTH * Position.HEIGHT)
+				{
+					this.results[child] = DRAW;
+				}
+
+				child++;
+			}
+
+			this.firstChild[node] = first;
+			this.childCount[node] = (byte) count;
+		}
+
+		this.states.set(node, EXPANDED); //Publishes the children to the other threads
+	}
+
+	//Play a random round from the position like the level 1 computer, which a third of the time connects four or blocks the opponent, return the side that wins or 0 for a draw
+	private int playout(Position position, int side, SplittableRandom random)
+	{
+		while (!position.isFull())
+		{
+			int column = -1;
+
+			//Determine if the side looks for a column to connect four or block the opponent
+			if (random.nextInt(3) == 0)
+			{
+				column = this.findWin(position, side);
+
+				if (column == -1)
+				{
+					column = this.findWin(position, 3 - side);
+				}
+			}
+
+			//Choose a random column that is not full
+			if (column == -1)
+			{
+				do
+				{
+					column = random.nextInt(Position.WIDTH);
+				}
+				while (!position.canPlay(column));
+			}
+
+			if (position.isWinningMove(column, side))
+			{
+				position.drop(column, side);
+				return side;
+			}
+
+			position.drop(column, side);
+			side = 3 - side;
+		}
+
+		return 0;
+	}
+
+	//Find a column where the side connects four, return -1 if there is none
+	private int findWin(Position position, int side)
+	{
+		for (int i = 0; i < Position.WIDTH; i++)
+		{
+			if (position.canPlay(i) && position.isWinningMove(i, side))
+			{
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	//Find the column of the root's child that was visited most, a column that connects four is always chosen
+	private int mostVisited(Position position)
+	{
+		int first = this.firstChild[0];
+		int best = -1;
+		int bestVisits = -1;
+
+		for (int child = first; child < first + this.childCount[0]; child++)
+		{
+			if (this.results[child] == WIN)
+			{
+				return this.columns[child];
+			}
+
+			if (this.visits.get(child) > bestVisits)
+			{
+				bestVisits = this.visits.get(child);
+				best = this.columns[child];
+			}
+		}
+
+		//Determine if the root never had children added, which only happens when no round could be played
+		if (best == -1)
+		{
+			for (int i = 0; i < Search.ORDER.length && best == -1; i++)
+			{
+				best = position.canPlay(Search.ORDER[i]) ? Search.ORDER[i] : -1;
+			}
+		}
+
+		return best;
+	}
+
+	//Reset a node that is being added to the tree
+	private void clearNode(int node, int column)
+	{
+		this.firstChild[node] = 0;
+		this.childCount[node] = 0;
+		this.columns[node] = (byte) column;
+		this.results[node] = OPEN;
+		this.states.set(node, UNEXPANDED);
+		this.visits.set(node, 0);
+		this.points.set(node, 0);
+	}
+
+	//Stop the helper threads, the search cannot be used afterwards
+	public void close()
+	{
+		if (this.helpers != null)
+		{
+			this.helpers.shutdown();
+		}
+	}
+
+	//Accessor methods to get values of instance variables
+	public int getThreads()
+	{
+		return this.threads;
+	}
+
+	//Get the number of nodes in the tree after the last move
+	public int getSize()
+	{
+		return Math.min(this.size.get(), this.firstChild.length);
+	}
+
+	public long getPlayouts()
+	{
+		return this.playouts.get();
+	}
+
+	//Get the number of random rounds played per second by all threads in the last move
+	public long getPlayoutsPerSecond()
+	{
+		return this.time == 0 ? 0 : this.playouts.get() * 1000000000L / this.time;
+	}
+
+	//Usage: java TreeSearch [threads] [milliseconds per move] [columns of a position, numbered from 1]
+	public static void main(String[] args)
+	{
+		int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+		long millis = args.length > 1 ? Long.parseLong(args[1]) : 1000;
+		Position position = Position.fromMoves(args.length > 2 ? args[2] : "");
+		TreeSearch search = new TreeSearch(threads, 1 << 22);
+		int column = search.bestMove(position, position.getMoves() % 2 + 1, millis, 0);
+		System.out.println("Best column " + (column + 1) + ", " + search.getPlayouts() + " playouts, " + search.getPlayoutsPerSecond() + " per second, " + search.getSize() + " nodes on " + threads + " threads");
+		search.close();
+	}
+} //End of class
\ No newline at end of file
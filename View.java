@@ -1,33 +1,40 @@
 //View
 //Description: This class creates the GUI for the Connect 4 game.
 //Created By: Wentan Su
-//Last Modified: Jan 22, 2023
+//Last Modified: Oct 18, 2026
 import javax.swing.*;
 import java.awt.*;
 
-public class View extends JPanel
+public class View extends JPanel implements ModelListener
 {
 	private Model model;
-	private JButton[] columns = new JButton[7]; //Buttons for each column
+	private JButton[] columns = new JButton[0]; //Buttons for each column, made again when the board changes size
+	private JPanel columnButtons = new JPanel(); //Holds the button of each column
+	private JComboBox<Rules> rules = new JComboBox<Rules>(Rules.PRESETS); //Size of the board and the number of checkers to connect
+	private Controller controller;
 	private JButton newGame = new JButton("New Game");
 	private JButton exit = new JButton("Exit");
 	private JButton endGame = new JButton("End Game");
 	private JButton nextRound = new JButton("Next Round");
+	private JButton hint = new JButton("Hint");
+	private JButton undo = new JButton("Undo"); //Takes back the player's last move and the computer's reply
+	private JButton redo = new JButton("Redo");
 	private JTextField roundNum = new JTextField("Enter the number of rounds here"); //Textfield to input number of rounds and display it
 	private JLabel instruction = new JLabel(); //Instruction for player
 	private JTextArea results = new JTextArea();
 	private JLabel playerPoints = new JLabel("Player: 0 Points");
 	private JLabel computerPoints = new JLabel("Computer: 0 Points");
-	private JRadioButton level1 = new JRadioButton("1 - Computer might block or connect.");
-	private JRadioButton level2 = new JRadioButton("2 - Computer always block or connect.");
-	private JRadioButton level3 = new JRadioButton("3 - Computer sees one move ahead.");
+	private String[] levelNames = {"1 - Computer might block or connect.", "2 - Computer always block or connect.", "3 - Computer sees one move ahead.", "4 - Computer searches eight moves ahead.", "5 - Computer searches ten moves ahead and remembers positions.", "6 - Computer searches as deep as it can in one second.", "7 - Computer searches for one second on every processor.", "8 - Computer weighs the threats each column makes.", "9 - Computer searches twelve moves ahead, best moves first.", "10 - Computer plays perfectly once it can solve the position.", "11 - Computer plays out random rounds for one second.", "12 - Computer searches for one second and keeps thinking on your time."};
+	private JRadioButton[] levels = new JRadioButton[this.levelNames.length]; //Radio buttons to select the computer level
+	private JLabel searchInfo = new JLabel(); //Number of positions searched by the computer
 	private Board board; //Game board
 
 	public View(Model model)
 	{
 		super();
 		this.model = model;
-		this.model.setGUI(this);
+		this.model.addListener(this);
+		this.model.runInBackground(SwingUtilities::invokeLater); //Keep the computer's search off the event dispatch thread
 		this.board = new Board(this.model);
 		this.createLayout();
 		this.registerControllers();
@@ -40,26 +47,22 @@ public class View extends JPanel
 		JPanel game = new JPanel(); //Game board section
 		JPanel topArea = new JPanel(); //Round number and instruction
 		JPanel top = new JPanel(); //Top area and buttons
-		JPanel buttons = new JPanel(); //Buttons for each column
 		JPanel bottom = new JPanel(); //New game, exit, end game buttons
 
 		top.add(this.roundNum);
+		top.add(this.rules);
 		top.add(this.instruction);
 
-		//Initialize and add buttons for each column
-		for (int i = 0; i < 7; i++)
-		{
-			this.columns[i] = new JButton(String.valueOf(i + 1));
-			buttons.add(this.columns[i]);
-		}
-
 		topArea.setLayout(new BoxLayout(topArea, BoxLayout.Y_AXIS));
 		topArea.add(top);
-		topArea.add(buttons);
+		topArea.add(this.columnButtons);
 
 		bottom.add(this.newGame);
 		bottom.add(this.exit);
 		bottom.add(this.endGame);
+		bottom.add(this.hint);
+		bottom.add(this.undo);
+		bottom.add(this.redo);
 
 		game.setLayout(new BorderLayout());
 		game.add(topArea, BorderLayout.NORTH);
@@ -79,10 +82,16 @@ public class View extends JPanel
 		scores.add(this.computerPoints);
 
 		computerLevel.setLayout(new BoxLayout(computerLevel, BoxLayout.Y_AXIS));
-		computerLevel.add(this.level1);
-		computerLevel.add(this.level2);
-		computerLevel.add(this.level3);
-		computerLevel.setPreferredSize(new Dimension(400, 100));
+
+		//Initialize and add radio buttons for each computer level
+		for (int i = 0; i < this.levels.length; i++)
+		{
+			this.levels[i] = new JRadioButton(this.levelNames[i]);
+			computerLevel.add(this.levels[i]);
+		}
+
+		computerLevel.add(this.searchInfo);
+		computerLevel.setPreferredSize(new Dimension(400, 25 * (this.levels.length + 1)));
 
 		//Add borders to panels
 		resultsPanel.setBorder(BorderFactory.createTitledBorder("Results"));
@@ -103,7 +112,8 @@ public class View extends JPanel
 	//Register controllers for components
 	private void registerControllers()
 	{
-		Controller controller = new Controller(this.model, this.roundNum);
+		Controller controller = new Controller(this.model, this.roundNum, this.rules);
+		this.controller = controller;
 
 		//Add action listener and set action command for each component
 		this.roundNum.addActionListener(controller);
@@ -116,51 +126,89 @@ public class View extends JPanel
 		this.endGame.setActionCommand("14");
 		this.nextRound.addActionListener(controller);
 		this.nextRound.setActionCommand("15");
-		this.level1.addActionListener(controller);
-		this.level1.setActionCommand("16");
-		this.level2.addActionListener(controller);
-		this.level2.setActionCommand("17");
-		this.level3.addActionListener(controller);
-		this.level3.setActionCommand("18");
+		this.hint.addActionListener(controller);
+		this.hint.setActionCommand("8");
+		this.undo.addActionListener(controller);
+		this.undo.setActionCommand("9");
+		this.redo.addActionListener(controller);
+		this.redo.setActionCommand("10");
+		this.rules.addActionListener(controller);
+		this.rules.setActionCommand("7");
 
-		for (int i = 0; i < 7; i++)
+		for (int i = 0; i < this.levels.length; i++)
 		{
-			this.columns[i].addActionListener(controller);
-			this.columns[i].setActionCommand(String.valueOf(i));
+			this.levels[i].addActionListener(controller);
+			this.levels[i].setActionCommand(String.valueOf(16 + i));
 		}
 	}
 
+	//Make a button for each column of the board, the action command of a column is 100 plus its index so wide boards do not reach the other commands
+	private void createColumns(int width)
+	{
+		this.columnButtons.removeAll();
+		this.columns = new JButton[width];
+
+		for (int i = 0; i < width; i++)
+		{
+			this.columns[i] = new JButton(String.valueOf(i + 1));
+			this.columns[i].addActionListener(this.controller);
+			this.columns[i].setActionCommand(String.valueOf(100 + i));
+			this.columnButtons.add(this.columns[i]);
+		}
+
+		this.columnButtons.revalidate();
+		this.columnButtons.repaint();
+	}
+
 	//Update the GUI after player's action
 	public void update()
 	{
-		this.repaint();
+		ModelState state = this.model.getState(); //Read one snapshot so every component shows the same game
+		this.board.refresh(state); //Repaint only the holes that changed, the other components repaint themselves when they change
 
 		//Update scores display
-		this.playerPoints.setText("Player: " + this.model.getPlayerPoints() + " Points");
-		this.computerPoints.setText("Computer: " + this.model.getComputerPoints() + " Points");
+		this.playerPoints.setText("Player: " + state.getPlayerPoints() + " Points");
+		this.computerPoints.setText("Computer: " + state.getComputerPoints() + " Points");
 
-		//Disable buttons if their column is full
-		for (int i = 0; i < 7; i++)
+		//Determine if the board has changed size, in which case the column buttons are made again
+		if (this.columns.length != state.getRules().getWidth())
 		{
-			this.columns[i].setEnabled(this.model.getGrid()[0][i] == 0);
+			this.createColumns(state.getRules().getWidth());
 		}
-		
-		//Disable buttons for each column if a round or game is over
-		for (int i = 0; i < 7; i++)
+
+		//Disable buttons if their column is full, a round or game is over, or the computer is thinking
+		for (int i = 0; i < this.columns.length; i++)
 		{
-			this.columns[i].setEnabled(!(this.model.getRoundOver() || this.model.getGameOver()));
+			this.columns[i].setEnabled(state.canPlay(i) && !(state.getRoundOver() || state.getGameOver() || state.getThinking()));
 		}
 
 		//Determine if player has entered number of rounds
-		if (this.model.getMaxRound() != 0)
+		if (state.getMaxRound() != 0)
 		{
 			this.roundNum.setEditable(false);
-			this.roundNum.setText("Round " + this.model.getRound() + "/" + this.model.getMaxRound());
+			this.roundNum.setText("Round " + state.getRound() + "/" + state.getMaxRound());
 			this.instruction.setText("Place your checker with the buttons below");
 		}
 
+		//Determine if the computer is computing its move
+		if (state.getThinking())
+		{
+			this.instruction.setText("Computer is thinking...");
+		}
+
+		//Determine if the player has asked for a hint
+		if (state.getHint() != null)
+		{
+			this.instruction.setText(state.getHint());
+		}
+
+		//Allow the player to ask for a hint on their turn
+		this.hint.setEnabled(state.getLevel() != 0 && state.getMaxRound() != 0 && !(state.getRoundOver() || state.getGameOver() || state.getThinking()));
+		this.undo.setEnabled(state.canUndo());
+		this.redo.setEnabled(state.canRedo());
+
 		//Determine if a new game is starting
-		if (this.model.getNewGame())
+		if (state.getNewGame())
 		{
 			this.roundNum.setText("Enter the number of rounds here");
 			this.roundNum.selectAll();
@@ -170,33 +218,59 @@ public class View extends JPanel
 		}
 
 		//Determine if the round is over
-		if (this.model.getRoundOver())
+		if (state.getRoundOver())
 		{
-			this.results.setText(this.results.getText().concat("Round " + this.model.getRound() + " - " + this.model.getWinner() + "\n"));
-			this.instruction.setText(this.model.getWinner());
+			this.results.setText(this.results.getText().concat("Round " + state.getRound() + " - " + state.getWinner() + "\n"));
+			this.instruction.setText(state.getWinner());
 		}
 		
-		this.nextRound.setVisible(this.model.getRoundOver()); //Allow player to move to next round
+		this.nextRound.setVisible(state.getRoundOver()); //Allow player to move to next round
 		
 		//Determine if the game is over
-		if (this.model.getGameOver())
+		if (state.getGameOver())
 		{
-			this.instruction.setText("Game over - " + this.model.getWinner());
+			this.instruction.setText("Game over - " + state.getWinner());
 			this.nextRound.setVisible(false);
-			this.results.setText(this.results.getText().concat("Overall Game Result - " + this.model.getWinner()));
+			this.results.setText(this.results.getText().concat("Overall Game Result - " + state.getWinner()));
 		}
 		
-		//Determine if a computer level has been selected
-		if (this.model.getLevel() == 0)
+		//Check each computer level
+		for (int i = 0; i < this.levels.length; i++)
+		{
+			//Determine if a computer level has been selected
+			if (state.getLevel() == 0)
+			{
+				this.levels[i].setSelected(false);
+			}
+			
+			//Disable radio buttons if a computer level has been selected
+			this.levels[i].setEnabled(state.getLevel() == 0);
+		}
+
+		//Allow the board to be changed until a computer level has been selected, the selection is only set when it differs since setting it sends an action to the Controller
+		if (!state.getRules().equals(this.rules.getSelectedItem()))
 		{
-			this.level1.setSelected(false);
-			this.level2.setSelected(false);
-			this.level3.setSelected(false);
+			this.rules.setSelectedItem(state.getRules());
 		}
+
+		this.rules.setEnabled(state.getLevel() == 0);
 		
-		//Disable radio buttons if a computer level has been selected
-		this.level1.setEnabled(this.model.getLevel() == 0);
-		this.level2.setEnabled(this.model.getLevel() == 0);
-		this.level3.setEnabled(this.model.getLevel() == 0);
+		//Show how many positions the computer has searched, or random rounds it has played, for its last move
+		if (state.getPondered())
+		{
+			this.searchInfo.setText("Answered at once, " + state.getNodes() + " positions were searched on your time");
+		}
+		else if (state.getNodes() != 0 && state.getLevel() == 11)
+		{
+			this.searchInfo.setText("Played " + state.getNodes() + " random rounds at " + state.getNodesPerSecond() + " per second");
+		}
+		else if (state.getNodes() != 0)
+		{
+			this.searchInfo.setText("Searched " + state.getNodes() + " positions at " + state.getNodesPerSecond() + " per second");
+		}
+		else
+		{
+			this.searchInfo.setText(" ");
+		}
 	}
 } //End of class
\ No newline at end of file
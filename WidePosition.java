@@ -0,0 +1,277 @@
+//WidePosition
+//Description: This class stores the checkers of a board of any size from the Rules as two bitboards, one for each side, each split over as many longs as the board needs.
+//Like Position each column uses one bit more than its height, so a 10 by 12 board needs 130 bits and three words, while the classic board still fits in one.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+
+public class WidePosition
+{
+	private static final int[][] STEPS = {{0, 1}, {1, 0}, {1, -1}, {1, 1}}; //Steps in columns and heights vertically, horizontally and along both diagonals
+
+	private Rules rules;
+	private int width;
+	private int height;
+	private int connect;
+	private int columnBits; //Bits used by each column, the extra bit on top keeps the columns apart
+	private int[] shifts; //Bit shifts that move one hole in each of the steps
+	private long[][] boards; //Words of the bitboards of the player, 1, and computer, 2, the bit of a hole is its column times the column bits plus its height
+	private int[] heights; //Number of checkers in each column
+	private int moves; //Number of checkers on the board
+	private int[] history; //Columns of the checkers on the board in the order they were placed
+	private long[] lines; //Words used while finding connected checkers, kept so finding them allocates nothing
+	private long[] shifted;
+	private Position position; //The same checkers as a Position when the rules are the classic ones, kept in step so the computer's classic engines never copy the board, null for other rules
+
+	//Create an empty position
+	public WidePosition(Rules rules)
+	{
+		this.rules = rules;
+		this.width = rules.getWidth();
+		this.height = rules.getHeight();
+		this.connect = rules.getConnect();
+		this.columnBits = this.height + 1;
+		this.shifts = new int[] {1, this.columnBits, this.columnBits - 1, this.columnBits + 1};
+		this.boards = new long[3][(this.width * this.columnBits + 63) / 64];
+		this.heights = new int[this.width];
+		this.history = new int[rules.getArea()];
+		this.lines = new long[this.boards[0].length];
+		this.shifted = new long[this.boards[0].length];
+		this.position = rules.isClassic() ? new Position() : null;
+	}
+
+	//Create a copy of another position
+	public WidePosition(WidePosition other)
+	{
+		this(other.rules);
+
+		for (int i = 1; i <= 2; i++)
+		{
+			System.arraycopy(other.boards[i], 0, this.boards[i], 0, this.boards[i].length);
+		}
+
+		System.arraycopy(other.heights, 0, this.heights, 0, this.width);
+		System.arraycopy(other.history, 0, this.history, 0, other.moves);
+		this.moves = other.moves;
+
+		if (other.position != null)
+		{
+			this.position = new Position(other.position);
+		}
+	}
+
+	//Remove all checkers from the board
+	public void clear()
+	{
+		for (int i = 1; i <= 2; i++)
+		{
+			for (int j = 0; j < this.boards[i].length; j++)
+			{
+				this.boards[i][j] = 0L;
+			}
+		}
+
+		for (int i = 0; i < this.width; i++)
+		{
+			this.heights[i] = 0;
+		}
+
+		this.moves = 0;
+
+		if (this.position != null)
+		{
+			this.position.clear();
+		}
+	}
+
+	//Determine if a checker can be placed in the column
+	public boolean canPlay(int column)
+	{
+		return this.heights[column] < this.height;
+	}
+
+	//Place a checker in the column, 1 and 2 represent player and computer respectively, return the row of the grid it lands on
+	public int drop(int column, int checker)
+	{
+		int index = column * this.columnBits + this.heights[column];
+		this.boards[checker][index >>> 6] |= 1L << index;
+		this.heights[column]++;
+		this.history[this.moves] = column;
+		this.moves++;
+
+		if (this.position != null)
+		{
+			this.position.drop(column, checker);
+		}
+
+		return this.height - this.heights[column];
+	}
+
+	//Remove the last checker placed and return its column
+	public int undo()
+	{
+		int column = this.history[this.moves - 1];
+		this.heights[column]--;
+		this.moves--;
+
+		int index = column * this.columnBits + this.heights[column];
+		this.boards[1][index >>> 6] &= ~(1L << index);
+		this.boards[2][index >>> 6] &= ~(1L << index);
+
+		if (this.position != null)
+		{
+			this.position.undo(column);
+		}
+
+		return column;
+	}
+
+	//Determine if every hole on the board is occupied
+	public boolean isFull()
+	{
+		return this.moves == this.width * this.height;
+	}
+
+	//Determine if placing a checker in the column would connect enough checkers to win, without changing the board
+	//Only the lines through the new checker are counted, so the check takes the same time on any size of board
+	public boolean isWinningMove(int column, int checker)
+	{
+		long[] board = this.boards[checker];
+		int height = this.heights[column];
+
+		for (int i = 0; i < STEPS.length; i++)
+		{
+			int count = 1; //Checkers in the line, counting the new one
+
+			//Count the side's checkers running away from the new checker in the step and then in the opposite direction
+			for (int direction = 1; direction >= -1; direction -= 2)
+			{
+				int c = column + direction * STEPS[i][0];
+				int h = height + direction * STEPS[i][1];
+
+				while (c >= 0 && c < this.width && h >= 0 && h < this.height && isSet(board, c * this.columnBits + h))
+				{
+					count++;
+					c += direction * STEPS[i][0];
+					h += direction * STEPS[i][1];
+				}
+			}
+
+			if (count >= this.connect)
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	//Find the start and end holes of connected checkers of one side, return false if there are none
+	//Each direction keeps the bits that start a line one checker longer than the last, by and-ing the board with the lines shifted one hole along
+	public boolean findEndPoints(int checker, int[][] endPoints)
+	{
+		long[] board = this.boards[checker];
+		long[] lines = this.lines;
+		long[] shifted = this.shifted;
+
+		for (int i = 0; i < this.shifts.length; i++)
+		{
+			int shift = this.shifts[i];
+			System.arraycopy(board, 0, lines, 0, board.length);
+
+			for (int j = 1; j < this.connect; j++)
+			{
+				shiftRight(lines, shift, shifted);
+
+				for (int k = 0; k < lines.length; k++)
+				{
+					lines[k] = board[k] & shifted[k];
+				}
+			}
+
+			for (int k = 0; k < lines.length; k++)
+			{
+				if (lines[k] != 0)
+				{
+					int start = k * 64 + Long.numberOfTrailingZeros(lines[k]);
+					int end = start + (this.connect - 1) * shift;
+					endPoints[0][0] = this.height - 1 - start % this.columnBits;
+					endPoints[0][1] = start / this.columnBits;
+					endPoints[1][0] = this.height - 1 - end % this.columnBits;
+					endPoints[1][1] = end / this.columnBits;
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	//Shift the bits of a multi-word bitboard towards bit 0 by fewer than 64 places
+	private static void shiftRight(long[] board, int shift, long[] result)
+	{
+		for (int i = 0; i < board.length; i++)
+		{
+			long carry = i + 1 < board.length ? board[i + 1] << (64 - shift) : 0L; //Low bits of the next word move into the top of this one
+			result[i] = (board[i] >>> shift) | carry;
+		}
+	}
+
+	//Determine if the bit of a hole is set in a multi-word bitboard
+	private static boolean isSet(long[] board, int index)
+	{
+		return (board[index >>> 6] & (1L << index)) != 0;
+	}
+
+	//Find the row of the grid where the next checker in the column lands, return -1 if the column is full
+	public int getRow(int column)
+	{
+		return this.height - 1 - this.heights[column];
+	}
+
+	//Get the checker in a hole of the grid, 0 means the hole is empty
+	public int getChecker(int row, int column)
+	{
+		int index = column * this.columnBits + this.height - 1 - row;
+
+		if (isSet(this.boards[1], index))
+		{
+			return 1;
+		}
+
+		return isSet(this.boards[2], index) ? 2 : 0;
+	}
+
+	//Get the checkers as a Position, which the computer's classic engines search, the rules must be the classic ones
+	//The Position is the one kept in step with this board, so a caller may place checkers on it only if it takes them back before the board changes
+	public Position getPosition()
+	{
+		if (this.position == null)
+		{
+			throw new IllegalStateException("Only a " + Rules.CLASSIC + " board fits in a Position");
+		}
+
+		return this.position;
+	}
+
+	//Accessor methods to get values of instance variables
+	public Rules getRules()
+	{
+		return this.rules;
+	}
+
+	public int getHeight(int column)
+	{
+		return this.heights[column];
+	}
+
+	public int getMoves()
+	{
+		return this.moves;
+	}
+
+	//Get the column of a checker by the order it was placed in, the first checker is 0
+	public int getMove(int index)
+	{
+		return this.history[index];
+	}
+} //End of class
\ No newline at end of file
@@ -0,0 +1,372 @@
+//WideSearch
+//Description: This class finds the best column on a board of any size from the Rules by searching ahead with negamax and alpha-beta pruning, going one depth deeper at a time until its depth or time runs out.
+//Positions are scored like ThreatEvaluator, by the lines each side can still complete, and the score is kept up to date as the search places and removes checkers so each position only rescores the lines through one hole.
+//Created By: Wentan Su
+//Last Modified: Oct 18, 2026
+import java.util.*;
+
+public class WideSearch
+{
+	private static final int WIN_SCORE = 1000000; //Score of a win, less the number of checkers placed before it so faster wins score higher
+
+	private Rules rules;
+	private int columnBits; //Bits used by each column of the position's bitboards
+	private int[] order; //Columns in the order they are searched, centre first
+	private int[][] holeLines; //Lines which pass through each hole, by the hole's bit in the bitboards
+	private int[] lineWeights; //Score of a line holding a number of one side's checkers and none of the other's
+	private int[] centerWeights; //Score of a checker in each column
+	private int[][] counts; //Number of the player's, 1, and computer's, 2, checkers in each line
+	private int score; //Score from the player's side
+	private long deadline; //Value of System.nanoTime() at which the search stops
+	private boolean stopped; //If the search ran out of time or was interrupted
+	private long nodes; //Number of positions searched by the last search
+	private long time; //Nanoseconds taken by the last search
+	private int completedDepth; //Deepest depth the last search finished
+
+	public WideSearch(Rules rules)
+	{
+		int width = rules.getWidth();
+		int height = rules.getHeight();
+		int connect = rules.getConnect();
+		this.rules = rules;
+		this.columnBits = height + 1;
+		this.order = new int[width];
+		this.centerWeights = new int[width];
+		this.lineWeights = new int[connect];
+
+		//Order the columns from the centre outwards, with the left one first when two are as close
+		for (int i = 0; i < width; i++)
+		{
+			int j = i;
+
+			while (j > 0 && Math.abs(2 * this.order[j - 1] - width + 1) > Math.abs(2 * i - width + 1))
+			{
+				this.order[j] = this.order[j - 1];
+				j--;
+			}
+
+			this.order[j] = i;
+			this.centerWeights[i] = Math.min(i, width - 1 - i);
+		}
+
+		//Each checker more in a line is worth four times as much, a complete line is found by the search as a win instead
+		for (int i = 1; i < connect; i++)
+		{
+			this.lineWeights[i] = 1 << (2 * (i - 1));
+		}
+
+		//Find every line of checkers that can win and the lines through each hole
+		int[][] steps = {{1, 0}, {0, 1}, {1, 1}, {1, -1}};
+		ArrayList<int[]> lines = new ArrayList<int[]>();
+
+		for (int column = 0; column < width; column++)
+		{
+			for (int h = 0; h < height; h++)
+			{
+				for (int i = 0; i < steps.length; i++)
+				{
+					int endColumn = column + (connect - 1) * steps[i][0];
+					int endHeight = h + (connect - 1) * steps[i][1];
+
+					//Determine if the line starting at this hole stays on the board
+					if (endColumn < width && endHeight >= 0 && endHeight < height)
+					{
+						int[] line = new int[connect];
+
+						for (int j = 0; j < connect; j++)
+						{
+							line[j] = (column + j * steps[i][0]) * this.columnBits + h + j * steps[i][1];
+						}
+
+						lines.add(line);
+					}
+				}
+			}
+		}
+
+		int[] lineCounts = new int[width * this.columnBits];
+		this.holeLines = new int[width * this.columnBits][];
+
+		for (int i = 0; i < lines.size(); i++)
+		{
+			for (int hole : lines.get(i))
+			{
+				lineCounts[hole]++;
+			}
+		}
+
+		for (int hole = 0; hole < this.holeLines.length; hole++)
+		{
+			this.holeLines[hole] = new int[lineCounts[hole]];
+			lineCounts[hole] = 0;
+		}
+
+		for (int i = 0; i < lines.size(); i++)
+		{
+			for (int hole : lines.get(i))
+			{
+				this.holeLines[hole][lineCounts[hole]++] = i;
+			}
+		}
+
+		this.counts = new int[3][lines.size()];
+	}
+
+	//Find the best column for the side with the checker, searching one depth deeper at a time up to a depth or until the time in milliseconds runs out, 0 means there is no time limit
+	//The first depth always finishes, so there is a column to play however short the time, -1 is returned only if the board is full
+	public int bestMove(WidePosition position, int checker, int depth, long millis)
+	{
+		long start = System.nanoTime();
+		WidePosition copy = new WidePosition(position); //The search places checkers on its own copy
+		int[] columns = new int[this.order.length];
+		int count = 0;
+		int best = -1;
+		this.nodes = 0;
+		this.completedDepth = 0;
+		this.stopped = false;
+		this.deadline = Long.MAX_VALUE;
+		this.setUp(copy);
+
+		for (int i = 0; i < this.order.length; i++)
+		{
+			if (copy.canPlay(this.order[i]))
+			{
+				columns[count++] = this.order[i];
+			}
+		}
+
+		//Determine if the board is full, in which case there is no column to play
+		if (count == 0)
+		{
+			this.time = System.nanoTime() - start;
+			return -1;
+		}
+
+		//Determine if a column wins at once, which needs no search
+		for (int i = 0; i < count; i++)
+		{
+			if (copy.isWinningMove(columns[i], checker))
+			{
+				this.time = System.nanoTime() - start;
+				return columns[i];
+			}
+		}
+
+		int maxDepth = Math.min(depth, this.rules.getArea() - copy.getMoves());
+
+		for (int d = 1; d <= maxDepth; d++)
+		{
+			this.deadline = d == 1 || millis == 0 ? Long.MAX_VALUE : start + millis * 1000000L;
+			int alpha = -WIN_SCORE - 1;
+			int dBest = -1;
+
+			for (int i = 0; i < count; i++)
+			{
+				int score = -this.negamax(copy, columns[i], checker, d - 1, -WIN_SCORE - 1, -alpha);
+
+				if (this.stopped)
+				{
+					break;
+				}
+
+				if (score > alpha)
+				{
+					alpha = score;
+					dBest = i;
+				}
+			}
+
+			//Determine if the depth was stopped before it finished, in which case its result cannot be trusted
+			if (this.stopped)
+			{
+				break;
+			}
+
+			best = columns[dBest];
+			this.completedDepth = d;
+
+			//Search the best column first at the next depth, which lets it prune more of the others
+			System.arraycopy(columns, 0, columns, 1, dBest);
+			columns[0] = best;
+
+			//Determine if the result is known for certain, a win or loss found at this depth will not change
+			if (Math.abs(alpha) >= WIN_SCORE - this.rules.getArea())
+			{
+				break;
+			}
+		}
+
+		this.time = System.nanoTime() - start;
+		return best == -1 ? columns[0] : best;
+	}
+
+	//Place a checker in a column and score the position for the side that moves next, from that side's view
+	private int negamax(WidePosition position, int column, int checker, int depth, int alpha, int beta)
+	{
+		this.play(position, column, checker);
+		int score = this.search(position, 3 - checker, depth, alpha, beta);
+		this.unplay(position, column, checker);
+		return score;
+	}
+
+	//Score the position for the side with the checker, which is to move
+	private int search(WidePosition position, int checker, int depth, int alpha, int beta)
+	{
+		this.nodes++;
+
+		//Check the time and if the search has been interrupted every 1024 positions
+		if ((this.nodes & 1023) == 0 && (System.nanoTime() > this.deadline || Thread.currentThread().isInterrupted()))
+		{
+			this.stopped = true;
+		}
+
+		if (this.stopped)
+		{
+			return 0;
+		}
+
+		//Determine if the side can win at once
+		for (int i = 0; i < this.order.length; i++)
+		{
+			if (position.canPlay(this.order[i]) && position.isWinningMove(this.order[i], checker))
+			{
+				return WIN_SCORE - position.getMoves() - 1;
+			}
+		}
+
+		//Determine if the board is full, which is a draw
+		if (position.isFull())
+		{
+			return 0;
+		}
+
+		if (depth == 0)
+		{
+			return checker == 1 ? this.score : -this.score;
+		}
+
+		int best = -WIN_SCORE - 1;
+
+		for (int i = 0; i < this.order.length; i++)
+		{
+			if (!position.canPlay(this.order[i]))
+			{
+				continue;
+			}
+
+			int score = -this.negamax(position, this.order[i], checker, depth - 1, -beta, -alpha);
+
+			if (score > best)
+			{
+				best = score;
+			}
+
+			if (score > alpha)
+			{
+				alpha = score;
+			}
+
+			if (alpha >= beta)
+			{
+				break;
+			}
+		}
+
+		return best;
+	}
+
+	//Score the checkers already on the board
+	private void setUp(WidePosition position)
+	{
+		this.score = 0;
+
+		for (int i = 1; i <= 2; i++)
+		{
+			Arrays.fill(this.counts[i], 0);
+		}
+
+		for (int column = 0; column < this.rules.getWidth(); column++)
+		{
+			for (int h = 0; h < position.getHeight(column); h++)
+			{
+				this.change(column, h, position.getChecker(this.rules.getHeight() - 1 - h, column), 1);
+			}
+		}
+	}
+
+	//Place a checker and bring the score up to date
+	private void play(WidePosition position, int column, int checker)
+	{
+		this.change(column, position.getHeight(column), checker, 1);
+		position.drop(column, checker);
+	}
+
+	//Remove the checker placed last and bring the score up to date
+	private void unplay(WidePosition position, int column, int checker)
+	{
+		position.undo();
+		this.change(column, position.getHeight(column), checker, -1);
+	}
+
+	//Add, step 1, or remove, step -1, a checker in a hole, taking the old score of each line through it away before adding its new score
+	private void change(int column, int height, int checker, int step)
+	{
+		int[] lines = this.holeLines[column * this.columnBits + height];
+		int[] counts = this.counts[checker];
+
+		for (int i = 0; i < lines.length; i++)
+		{
+			this.score -= this.scoreLine(lines[i]);
+			counts[lines[i]] += step;
+			this.score += this.scoreLine(lines[i]);
+		}
+
+		int center = this.centerWeights[column] * step;
+		this.score += checker == 1 ? center : -center;
+	}
+
+	//Score a line from the player's side, a line holding checkers of both sides can never be completed and is worth nothing
+	private int scoreLine(int line)
+	{
+		int player = this.counts[1][line];
+		int computer = this.counts[2][line];
+
+		if (player > 0 && computer > 0)
+		{
+			return 0;
+		}
+
+		//A full line only exists after a win, which the search scores itself
+		int value = this.lineWeights[Math.min(player + computer, this.lineWeights.length - 1)];
+		return player > 0 ? value : -value;
+	}
+
+	//Accessor methods to get values of instance variables
+	public Rules getRules()
+	{
+		return this.rules;
+	}
+
+	public long getNodes()
+	{
+		return this.nodes;
+	}
+
+	//Get the number of positions searched per second by the last search
+	public long getNodesPerSecond()
+	{
+		return this.time == 0 ? 0 : this.nodes * 1000000000L / this.time;
+	}
+
+	//Get the deepest depth the last search finished
+	public int getCompletedDepth()
+	{
+		return this.completedDepth;
+	}
+
+	//Get the nanoseconds taken by the last search
+	public long getTime()
+	{
+		return this.time;
+	}
+} //End of class
\ No newline at end of file